@@ -6,6 +6,7 @@ dependencies {
     jmh(project(":command-core"))
     jmh(libs.jmh.core)
     jmh(libs.jmh.generator.annprocess)
+    jmh(libs.jol.core)
 }
 
 jmh {
@@ -14,5 +15,14 @@ jmh {
     iterations.set(3)
     fork.set(1)
     benchmarkMode.set(listOf("thrpt"))
+    profilers.set(listOf("gc"))
     timeUnit.set("ms")
 }
+
+tasks.register<JavaExec>("footprintReport") {
+    group = "verification"
+    description = "Prints the retained heap size per route of large route trees."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("io.github.hanielcota.commandframework.benchmarks.RouteFootprintReport")
+    jvmArgs("-Djdk.attach.allowAttachSelf=true", "-Djol.skipHotspotSAAttach=true")
+}
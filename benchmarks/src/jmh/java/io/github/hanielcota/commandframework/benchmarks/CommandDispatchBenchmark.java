@@ -3,19 +3,24 @@ package io.github.hanielcota.commandframework.benchmarks;
 import io.github.hanielcota.commandframework.core.ActorKind;
 import io.github.hanielcota.commandframework.core.CommandActor;
 import io.github.hanielcota.commandframework.core.CommandDispatcher;
+import io.github.hanielcota.commandframework.core.CommandInvocation;
+import io.github.hanielcota.commandframework.core.CommandLogger;
 import io.github.hanielcota.commandframework.core.CommandParameter;
 import io.github.hanielcota.commandframework.core.CommandResult;
 import io.github.hanielcota.commandframework.core.CommandRoute;
 import io.github.hanielcota.commandframework.core.ParameterResolverRegistry;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.Nullable;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -23,6 +28,10 @@ import org.openjdk.jmh.annotations.Warmup;
 
 /**
  * Benchmarks command dispatch throughput.
+ *
+ * <p>The {@code logging} parameter compares the framework's trace and debug
+ * logging disabled ({@code off}, the {@link CommandLogger#noop()} default)
+ * against enabled with a logger that only measures the messages ({@code on}).</p>
  */
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.Throughput)
@@ -32,13 +41,20 @@ import org.openjdk.jmh.annotations.Warmup;
 @Fork(1)
 public class CommandDispatchBenchmark {
 
+    @Param({"off", "on"})
+    public String logging;
+
+    private static final int BATCH_SIZE = 16;
+
     private CommandDispatcher dispatcher;
     private CommandActor actor;
+    private List<CommandInvocation> batch;
 
     @Setup
     public void setup() {
         dispatcher = CommandDispatcher.builder()
                 .throttle(new io.github.hanielcota.commandframework.core.rate.DispatchThrottle(Integer.MAX_VALUE, Duration.ofDays(1)))
+                .logger("on".equals(logging) ? new MeasuringLogger() : CommandLogger.noop())
                 .build();
         actor = new BenchmarkActor();
         ParameterResolverRegistry resolvers = ParameterResolverRegistry.withDefaults();
@@ -49,6 +65,7 @@ public class CommandDispatchBenchmark {
                         .parameters(List.of(new CommandParameter<>("target", String.class, resolvers.find(String.class).orElseThrow(), true)))
                         .build()
         );
+        batch = Collections.nCopies(BATCH_SIZE, CommandInvocation.parse("kit give Steve"));
     }
 
     @Benchmark
@@ -61,6 +78,47 @@ public class CommandDispatchBenchmark {
         return dispatcher.dispatch(actor, "kit", List.of("give", "Steve"));
     }
 
+    @Benchmark
+    public CommandResult dispatchCommandLine() {
+        return dispatcher.dispatch(actor, "kit give Steve");
+    }
+
+    /** Dispatches {@value #BATCH_SIZE} subcommands as one batch; divide by it to compare with the single dispatches. */
+    @Benchmark
+    public List<CommandResult> dispatchBatch() {
+        return dispatcher.dispatchBatch(actor, batch).toCompletableFuture().join();
+    }
+
+    private static final class MeasuringLogger implements CommandLogger {
+
+        private long characters;
+
+        @Override
+        public boolean isTraceEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isDebugEnabled() {
+            return true;
+        }
+
+        @Override
+        public void trace(String message) {
+            characters += message.length();
+        }
+
+        @Override
+        public void debug(String message) {
+            characters += message.length();
+        }
+
+        @Override
+        public void warn(String message, @Nullable Throwable throwable) {
+            characters += message.length();
+        }
+    }
+
     private static final class BenchmarkActor implements CommandActor {
 
         @Override
@@ -0,0 +1,131 @@
+package io.github.hanielcota.commandframework.benchmarks;
+
+import io.github.hanielcota.commandframework.core.ActorKind;
+import io.github.hanielcota.commandframework.core.ArgumentView;
+import io.github.hanielcota.commandframework.core.CommandActor;
+import io.github.hanielcota.commandframework.core.CommandContext;
+import io.github.hanielcota.commandframework.core.CommandParameter;
+import io.github.hanielcota.commandframework.core.CommandResult;
+import io.github.hanielcota.commandframework.core.CommandRoute;
+import io.github.hanielcota.commandframework.core.ParameterParseContext;
+import io.github.hanielcota.commandframework.core.ParameterResolver;
+import io.github.hanielcota.commandframework.core.ParseResult;
+import io.github.hanielcota.commandframework.core.argument.SingleArgumentParameterResolver;
+import io.github.hanielcota.commandframework.core.argument.StringArgumentResolver;
+import io.github.hanielcota.commandframework.core.dispatch.CommandParameterParser;
+import io.github.hanielcota.commandframework.core.dispatch.ParameterParseOutcome;
+import io.github.hanielcota.commandframework.core.route.CommandLineTokens;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks parameter parsing for routes with a growing number of parameters.
+ *
+ * <p>Run with the {@code gc} profiler (enabled in {@code build.gradle.kts}) and
+ * compare {@code gc.alloc.rate.norm} across {@code parameters}: the built-in
+ * resolvers read one shared cursor, so allocation should grow by the parsed
+ * values only. The {@code resolver} parameter compares them ({@code cursor})
+ * with a resolver that only implements the context API ({@code context}),
+ * which gets one adapted context per parameter; those share the tokens too and
+ * are usually removed by escape analysis.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class ParameterParseBenchmark {
+
+    @Param({"1", "4", "8"})
+    public int parameters;
+
+    @Param({"cursor", "context"})
+    public String resolver;
+
+    private final CommandParameterParser parser = new CommandParameterParser();
+    private CommandContext context;
+
+    @Setup
+    public void setup() {
+        ParameterResolver<String> strings = "context".equals(resolver)
+                ? new ContextOnlyResolver()
+                : new SingleArgumentParameterResolver<>(new StringArgumentResolver());
+        List<CommandParameter<?>> declared = new ArrayList<>();
+        List<String> arguments = new ArrayList<>();
+        for (int index = 0; index < parameters; index++) {
+            declared.add(new CommandParameter<>("value" + index, String.class, strings, true));
+            arguments.add("token" + index);
+        }
+        CommandRoute route = CommandRoute.builder("parse", (ctx, params) -> CommandResult.success())
+                .parameters(declared)
+                .build();
+        // Dispatch hands routes a view over the sanitized tokens, not another copy.
+        CommandLineTokens tokens = CommandLineTokens.tokenize(String.join(" ", arguments));
+        context = new CommandContext(new BenchmarkActor(), route, "parse", ArgumentView.of(tokens, 0));
+    }
+
+    @Benchmark
+    public ParameterParseOutcome parse() {
+        return parser.parse(context);
+    }
+
+    private static final class ContextOnlyResolver implements ParameterResolver<String> {
+
+        @Override
+        public Class<String> type() {
+            return String.class;
+        }
+
+        @Override
+        public boolean consumesInput() {
+            return true;
+        }
+
+        @Override
+        public ParseResult<String> resolve(ParameterParseContext context) {
+            if (context.index() >= context.arguments().size()) {
+                return ParseResult.failure("", context.parameter().name());
+            }
+            return ParseResult.success(context.arguments().get(context.index()), 1);
+        }
+    }
+
+    private static final class BenchmarkActor implements CommandActor {
+
+        @Override
+        public String uniqueId() {
+            return "benchmark";
+        }
+
+        @Override
+        public String name() {
+            return "Benchmark";
+        }
+
+        @Override
+        public ActorKind kind() {
+            return ActorKind.CONSOLE;
+        }
+
+        @Override
+        public boolean hasPermission(String permission) {
+            return true;
+        }
+
+        @Override
+        public void sendMessage(String message) {}
+    }
+}
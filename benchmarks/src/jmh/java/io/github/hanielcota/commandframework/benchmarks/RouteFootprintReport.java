@@ -0,0 +1,67 @@
+package io.github.hanielcota.commandframework.benchmarks;
+
+import io.github.hanielcota.commandframework.core.CommandResult;
+import io.github.hanielcota.commandframework.core.CommandRoot;
+import io.github.hanielcota.commandframework.core.CommandRoute;
+import io.github.hanielcota.commandframework.core.CommandRouteRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Prints the heap footprint of route trees, measured with JOL.
+ *
+ * <p>Run with {@code ./gradlew :benchmarks:footprintReport}. For each tree
+ * shape the report shows the bytes retained by the whole registry (authoring
+ * state plus the published snapshot) and by the published roots alone, both
+ * in total and per route. Use the per-route figures to size proxies that host
+ * many plugins.</p>
+ */
+public final class RouteFootprintReport {
+
+    private RouteFootprintReport() {
+    }
+
+    public static void main(String[] args) {
+        System.out.printf("%-28s %8s %14s %12s %14s %12s%n",
+                "shape", "routes", "registry B", "B/route", "published B", "B/route");
+        report("flat (1000 roots)", 1000, 0, 0);
+        report("narrow (200 x 5)", 200, 5, 1);
+        report("deep (100 x 4 x 3)", 100, 4, 3);
+        report("wide (20 x 50)", 20, 50, 1);
+    }
+
+    private static void report(String shape, int roots, int branches, int depth) {
+        List<CommandRoute> routes = routes(roots, branches, depth);
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        registry.registerAll(routes);
+        List<CommandRoot> published = registry.roots();
+        long registryBytes = GraphLayout.parseInstance(registry).totalSize();
+        long publishedBytes = GraphLayout.parseInstance(published.toArray()).totalSize();
+        System.out.printf("%-28s %8d %14d %12d %14d %12d%n",
+                shape, routes.size(), registryBytes, registryBytes / routes.size(),
+                publishedBytes, publishedBytes / routes.size());
+    }
+
+    private static List<CommandRoute> routes(int roots, int branches, int depth) {
+        List<CommandRoute> routes = new ArrayList<>();
+        for (int root = 0; root < roots; root++) {
+            String label = "root" + root;
+            routes.add(route(label, List.of()));
+            for (int branch = 0; branch < branches; branch++) {
+                List<String> path = new ArrayList<>();
+                for (int level = 0; level < depth; level++) {
+                    path.add("sub" + branch + "l" + level);
+                    routes.add(route(label, List.copyOf(path)));
+                }
+            }
+        }
+        return routes;
+    }
+
+    private static CommandRoute route(String root, List<String> path) {
+        return CommandRoute.builder(root, (ctx, params) -> CommandResult.success())
+                .path(path)
+                .build();
+    }
+}
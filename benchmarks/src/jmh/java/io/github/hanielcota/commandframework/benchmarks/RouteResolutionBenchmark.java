@@ -0,0 +1,80 @@
+package io.github.hanielcota.commandframework.benchmarks;
+
+import io.github.hanielcota.commandframework.core.CommandResult;
+import io.github.hanielcota.commandframework.core.CommandRoute;
+import io.github.hanielcota.commandframework.core.CommandRouteRegistry;
+import io.github.hanielcota.commandframework.core.RouteCursor;
+import io.github.hanielcota.commandframework.core.RouteResolution;
+import io.github.hanielcota.commandframework.core.RouteResolutionCache;
+import io.github.hanielcota.commandframework.core.metrics.CommandMetrics;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks route resolution against a registry with many roots.
+ *
+ * <p>Run with the {@code gc} profiler (enabled in {@code build.gradle.kts}) to
+ * compare allocation: {@link #resolveIntoCursor()} is expected to report
+ * {@code gc.alloc.rate.norm} of zero bytes per operation, and
+ * {@link #resolveThroughCache()} shows whether a {@link RouteResolutionCache}
+ * beats the tree walk for this shape.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class RouteResolutionBenchmark {
+
+    private static final int ROOTS = 200;
+
+    private final RouteCursor cursor = new RouteCursor();
+    private CommandRouteRegistry registry;
+    private RouteResolutionCache cache;
+    private List<String> arguments;
+
+    @Setup
+    public void setup() {
+        registry = new CommandRouteRegistry();
+        for (int index = 0; index < ROOTS; index++) {
+            String root = "root" + index;
+            registry.register(route(root, List.of()));
+            registry.register(route(root, List.of("give")));
+            registry.register(route(root, List.of("admin", "reset")));
+        }
+        arguments = List.of("admin", "reset", "steve");
+        cache = new RouteResolutionCache(registry, 1_000, CommandMetrics.noop());
+    }
+
+    @Benchmark
+    public RouteResolution resolve() {
+        return registry.resolve("root42", arguments);
+    }
+
+    @Benchmark
+    public boolean resolveIntoCursor() {
+        return registry.resolve("root42", arguments, cursor);
+    }
+
+    @Benchmark
+    public boolean resolveThroughCache() {
+        return cache.resolve("root42", arguments, cursor);
+    }
+
+    private static CommandRoute route(String root, List<String> path) {
+        return CommandRoute.builder(root, (ctx, params) -> CommandResult.success())
+                .path(path)
+                .build();
+    }
+}
@@ -9,7 +9,11 @@ import java.lang.annotation.Target;
  * Marks a command route for asynchronous execution.
  *
  * <p>Requires that the {@link io.github.hanielcota.commandframework.core.CommandDispatcher}
- * is configured with an {@link java.util.concurrent.Executor}.</p>
+ * is configured with an {@link java.util.concurrent.Executor}. A
+ * {@linkplain #value() name} such as {@code @Async("economy")} runs the route in
+ * that bulkhead, configured with
+ * {@code CommandDispatcher.Builder.bulkhead(name, maxConcurrency, queueCapacity, policy)},
+ * instead of the shared executor.</p>
  *
  * <p><strong>Thread-safety warning for Paper/Bukkit:</strong> When a route is marked
  * as async, the entire dispatch pipeline (guards, parsing, executor) runs on the
@@ -24,4 +28,7 @@ import java.lang.annotation.Target;
 @Target({ElementType.TYPE, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Async {
+
+    /** The bulkhead to run in; empty for the dispatcher's shared async executor. */
+    String value() default "";
 }
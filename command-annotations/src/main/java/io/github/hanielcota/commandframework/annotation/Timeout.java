@@ -0,0 +1,24 @@
+package io.github.hanielcota.commandframework.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sets the deadline of an {@link Async} route, measured from dispatch.
+ *
+ * <p>When it passes, the dispatcher interrupts the command, cancels the tasks
+ * it forked through {@code CommandTaskScope}, and answers with a timeout
+ * message. Synchronous routes run on the caller's thread and are not
+ * interrupted.</p>
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Timeout {
+
+    long value();
+
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
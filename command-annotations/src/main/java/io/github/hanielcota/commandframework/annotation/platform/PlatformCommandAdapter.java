@@ -4,6 +4,8 @@ import io.github.hanielcota.commandframework.annotation.scan.AnnotatedCommandSca
 import io.github.hanielcota.commandframework.core.CommandDispatcher;
 import io.github.hanielcota.commandframework.core.CommandRoot;
 import io.github.hanielcota.commandframework.core.CommandRoute;
+import io.github.hanielcota.commandframework.core.RouteRegistryChange;
+import io.github.hanielcota.commandframework.core.RouteRegistryListener;
 import io.github.hanielcota.commandframework.core.route.CommandLiteralNormalizer;
 import java.util.List;
 import java.util.Map;
@@ -11,6 +13,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Abstract base for platform-specific command adapters.
@@ -22,12 +25,31 @@ public abstract class PlatformCommandAdapter {
     private final CommandLiteralNormalizer normalizer = new CommandLiteralNormalizer();
     private final Map<String, CommandRoot> registeredRoots = new ConcurrentHashMap<>();
     private final List<CommandRoute> registeredRoutes = new CopyOnWriteArrayList<>();
+    private final RouteRegistryListener platformSync = this::syncPlatformRoots;
+    private final AtomicBoolean started = new AtomicBoolean();
 
+    /**
+     * Creates the adapter. It follows the dispatcher's route changes only
+     * once {@link #start()} is called.
+     */
     protected PlatformCommandAdapter(CommandDispatcher dispatcher, AnnotatedCommandScanner scanner) {
         this.dispatcher = Objects.requireNonNull(dispatcher, "dispatcher");
         this.scanner = Objects.requireNonNull(scanner, "scanner");
     }
 
+    /**
+     * Subscribes the adapter to the dispatcher's route changes, so platform
+     * roots follow every later registry change incrementally. Builders call
+     * it once the platform adapter is fully constructed; code that calls a
+     * constructor directly must call it before registering routes. Calling it
+     * again has no effect.
+     */
+    public void start() {
+        if (started.compareAndSet(false, true)) {
+            dispatcher.addRouteListener(platformSync);
+        }
+    }
+
     public CommandDispatcher dispatcher() {
         return dispatcher;
     }
@@ -36,29 +58,43 @@ public abstract class PlatformCommandAdapter {
         return scanner.scan(Objects.requireNonNull(commandInstance, "commandInstance"));
     }
 
+    /**
+     * Registers the routes as one dispatcher change. The resulting registry
+     * change registers only the platform roots it added.
+     */
     public void registerRoutes(List<CommandRoute> routes) {
-        Objects.requireNonNull(routes, "routes").forEach(route -> {
-            Objects.requireNonNull(route, "route");
-            dispatcher.register(route);
-            registeredRoutes.add(route);
-        });
-        registerPlatformRoots();
+        List<CommandRoute> checkedRoutes = List.copyOf(Objects.requireNonNull(routes, "routes"));
+        dispatcher.registerAll(checkedRoutes);
+        registeredRoutes.addAll(checkedRoutes);
     }
 
     public void registerAnnotated(Object commandInstance) {
         registerRoutes(scan(Objects.requireNonNull(commandInstance, "commandInstance")));
     }
 
-    private void registerPlatformRoots() {
-        for (CommandRoot root : dispatcher.roots()) {
-            String label = normalizer.normalize(root.label());
-            CommandRoot previous = registeredRoots.putIfAbsent(label, root);
-            if (previous == null) {
-                registerPlatformRoot(label, root);
-            } else if (!previous.equals(root)) {
-                registeredRoots.replace(label, previous, root);
+    private void syncPlatformRoots(RouteRegistryChange change) {
+        for (CommandRoot root : change.removedRoots()) {
+            CommandRoot previous = registeredRoots.remove(normalizer.normalize(root.label()));
+            if (previous != null) {
+                unregisterPlatformRoot(previous);
             }
         }
+        for (CommandRoot root : change.addedRoots()) {
+            syncPlatformRoot(root);
+        }
+        for (CommandRoot root : change.updatedRoots()) {
+            syncPlatformRoot(root);
+        }
+    }
+
+    private void syncPlatformRoot(CommandRoot root) {
+        String label = normalizer.normalize(root.label());
+        CommandRoot previous = registeredRoots.putIfAbsent(label, root);
+        if (previous == null) {
+            registerPlatformRoot(label, root);
+        } else if (!previous.equals(root)) {
+            registeredRoots.replace(label, previous, root);
+        }
     }
 
     private void registerPlatformRoot(String label, CommandRoot root) {
@@ -70,19 +106,35 @@ public abstract class PlatformCommandAdapter {
         }
     }
 
-    public void unregisterAll() {
-        for (CommandRoute route : registeredRoutes) {
-            dispatcher.unregister(route);
+    private void unregisterPlatformRoot(CommandRoot root) {
+        try {
+            unregisterRoot(root);
+        } catch (RuntimeException exception) {
+            dispatcher.logger().warn("Failed to unregister command root: " + root.label(), exception);
         }
+    }
+
+    public void unregisterAll() {
+        dispatcher.unregisterAll(List.copyOf(registeredRoutes));
         registeredRoutes.clear();
         for (CommandRoot root : registeredRoots.values()) {
-            unregisterRoot(root);
+            unregisterPlatformRoot(root);
         }
         registeredRoots.clear();
     }
 
+    /**
+     * Unregisters every route and platform root, stops following the
+     * dispatcher and {@linkplain CommandDispatcher#close() closes} it, so the
+     * threads it started do not outlive the plugin. Call it when the plugin is
+     * disabled.
+     */
     public void shutdown() {
         unregisterAll();
+        if (started.compareAndSet(true, false)) {
+            dispatcher.removeRouteListener(platformSync);
+        }
+        dispatcher.close();
     }
 
     protected abstract void registerRoot(CommandRoot root);
@@ -72,6 +72,8 @@ public final class AnnotatedCommandScanner {
                 .description(model.description())
                 .syntax(model.syntax())
                 .async(model.async())
+                .bulkhead(model.bulkhead())
+                .timeout(model.timeout())
                 .parameters(parameterBinder.bind(template.method()))
                 .build();
     }
@@ -15,7 +15,9 @@ record RouteAnnotationModel(
         Duration cooldown,
         String description,
         String syntax,
-        boolean async
+        boolean async,
+        String bulkhead,
+        Duration timeout
 ) {
 
     RouteAnnotationModel {
@@ -29,5 +31,7 @@ record RouteAnnotationModel(
         Objects.requireNonNull(cooldown, "cooldown");
         Objects.requireNonNull(description, "description");
         Objects.requireNonNull(syntax, "syntax");
+        Objects.requireNonNull(bulkhead, "bulkhead");
+        Objects.requireNonNull(timeout, "timeout");
     }
 }
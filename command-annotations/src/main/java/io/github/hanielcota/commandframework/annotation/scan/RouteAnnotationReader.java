@@ -11,6 +11,7 @@ import io.github.hanielcota.commandframework.annotation.OnlyPlayer;
 import io.github.hanielcota.commandframework.annotation.Permission;
 import io.github.hanielcota.commandframework.annotation.Subcommand;
 import io.github.hanielcota.commandframework.annotation.Syntax;
+import io.github.hanielcota.commandframework.annotation.Timeout;
 import io.github.hanielcota.commandframework.core.RouteConfigurationException;
 import io.github.hanielcota.commandframework.core.SenderRequirement;
 import java.lang.reflect.AnnotatedElement;
@@ -47,7 +48,9 @@ final class RouteAnnotationReader {
                 cooldown(commandType, method),
                 description(commandType, method),
                 syntax(commandType, method),
-                async(commandType, method)
+                async(commandType, method),
+                bulkhead(commandType, method),
+                timeout(commandType, method)
         );
     }
 
@@ -126,6 +129,26 @@ final class RouteAnnotationReader {
         return Duration.ofMillis(cooldown.unit().toMillis(cooldown.value()));
     }
 
+    private Duration timeout(Class<?> commandType, Method method) {
+        Timeout timeout = method.getAnnotation(Timeout.class);
+        if (timeout == null) {
+            timeout = commandType.getAnnotation(Timeout.class);
+        }
+        if (timeout == null) {
+            return Duration.ZERO;
+        }
+        if (timeout.value() < 0) {
+            throw new RouteConfigurationException("Invalid timeout '" + timeout.value() + "': expected zero or positive");
+        }
+        // Converted without truncating: a sub-millisecond timeout must not turn into ZERO, which means none.
+        try {
+            return Duration.of(timeout.value(), timeout.unit().toChronoUnit());
+        } catch (ArithmeticException exception) {
+            throw new RouteConfigurationException("Invalid timeout '" + timeout.value() + " " + timeout.unit()
+                    + "': expected a duration that fits in java.time.Duration");
+        }
+    }
+
     private String description(Class<?> commandType, Method method) {
         Description methodDescription = method.getAnnotation(Description.class);
         if (methodDescription != null) {
@@ -144,6 +167,15 @@ final class RouteAnnotationReader {
         return typeSyntax == null ? "" : typeSyntax.value();
     }
 
+    private String bulkhead(Class<?> commandType, Method method) {
+        Async methodAsync = method.getAnnotation(Async.class);
+        if (methodAsync != null) {
+            return methodAsync.value();
+        }
+        Async typeAsync = commandType.getAnnotation(Async.class);
+        return typeAsync == null ? "" : typeAsync.value();
+    }
+
     private boolean async(Class<?> commandType, Method method) {
         if (method.isAnnotationPresent(Async.class)) {
             return true;
@@ -1,6 +1,7 @@
 package io.github.hanielcota.commandframework.annotation.platform;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.github.hanielcota.commandframework.annotation.scan.AnnotatedCommandScanner;
 import io.github.hanielcota.commandframework.core.CommandDispatcher;
@@ -19,6 +20,7 @@ final class PlatformCommandAdapterTest {
     void registersPlatformRootOnlyOnceWhenAliasesChange() {
         CommandDispatcher dispatcher = CommandDispatcher.builder().build();
         RecordingAdapter adapter = new RecordingAdapter(dispatcher);
+        adapter.start();
 
         adapter.registerRoutes(List.of(route("kit", Set.of("kits"), List.of("give"))));
         adapter.registerRoutes(List.of(route("kit", Set.of("loadout"), List.of("take"))));
@@ -26,6 +28,51 @@ final class PlatformCommandAdapterTest {
         assertEquals(List.of("kit"), adapter.registeredLabels());
     }
 
+    @Test
+    void unregistersEveryRouteAndPlatformRootAtOnce() {
+        CommandDispatcher dispatcher = CommandDispatcher.builder().build();
+        RecordingAdapter adapter = new RecordingAdapter(dispatcher);
+        adapter.start();
+        adapter.registerRoutes(List.of(
+                route("kit", Set.of("kits"), List.of("give")),
+                route("kit", Set.of(), List.of("take")),
+                route("home", Set.of(), List.of())
+        ));
+
+        adapter.unregisterAll();
+
+        assertEquals(Set.of("kit", "home"), Set.copyOf(adapter.registeredLabels()));
+        assertEquals(Set.of("kit", "home"), Set.copyOf(adapter.unregisteredLabels()));
+        assertTrue(dispatcher.roots().isEmpty());
+    }
+
+    @Test
+    void followsRoutesRegisteredDirectlyOnTheDispatcher() {
+        CommandDispatcher dispatcher = CommandDispatcher.builder().build();
+        RecordingAdapter adapter = new RecordingAdapter(dispatcher);
+        adapter.start();
+        CommandRoute spawn = route("spawn", Set.of(), List.of());
+
+        dispatcher.register(spawn);
+        dispatcher.unregister(spawn);
+
+        assertEquals(List.of("spawn"), adapter.registeredLabels());
+        assertEquals(List.of("spawn"), adapter.unregisteredLabels());
+    }
+
+    @Test
+    void followsTheDispatcherOnlyOnceStarted() {
+        CommandDispatcher dispatcher = CommandDispatcher.builder().build();
+        RecordingAdapter adapter = new RecordingAdapter(dispatcher);
+
+        dispatcher.register(route("spawn", Set.of(), List.of()));
+        adapter.start();
+        adapter.start();
+        dispatcher.register(route("home", Set.of(), List.of()));
+
+        assertEquals(List.of("home"), adapter.registeredLabels());
+    }
+
     private CommandRoute route(String root, Set<String> aliases, List<String> path) {
         return CommandRoute.builder(root, (context, parameters) -> CommandResult.success())
                 .aliases(aliases)
@@ -36,6 +83,7 @@ final class PlatformCommandAdapterTest {
     private static final class RecordingAdapter extends PlatformCommandAdapter {
 
         private final List<String> registeredLabels = new ArrayList<>();
+        private final List<String> unregisteredLabels = new ArrayList<>();
 
         private RecordingAdapter(CommandDispatcher dispatcher) {
             super(dispatcher, new AnnotatedCommandScanner(ParameterResolverRegistry.withDefaults()));
@@ -45,6 +93,10 @@ final class PlatformCommandAdapterTest {
             return registeredLabels;
         }
 
+        List<String> unregisteredLabels() {
+            return unregisteredLabels;
+        }
+
         @Override
         protected void registerRoot(CommandRoot root) {
             registeredLabels.add(root.label());
@@ -52,6 +104,7 @@ final class PlatformCommandAdapterTest {
 
         @Override
         protected void unregisterRoot(CommandRoot root) {
+            unregisteredLabels.add(root.label());
         }
     }
 }
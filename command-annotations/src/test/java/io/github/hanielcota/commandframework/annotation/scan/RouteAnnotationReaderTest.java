@@ -4,13 +4,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.github.hanielcota.commandframework.annotation.Async;
 import io.github.hanielcota.commandframework.annotation.Command;
 import io.github.hanielcota.commandframework.annotation.Cooldown;
 import io.github.hanielcota.commandframework.annotation.Default;
 import io.github.hanielcota.commandframework.annotation.Permission;
 import io.github.hanielcota.commandframework.annotation.Subcommand;
+import io.github.hanielcota.commandframework.annotation.Timeout;
 import io.github.hanielcota.commandframework.core.CommandRoute;
 import io.github.hanielcota.commandframework.core.RouteConfigurationException;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
@@ -50,6 +53,30 @@ final class RouteAnnotationReaderTest {
         assertTrue(model.cooldown().getSeconds() > 0);
     }
 
+    @Test
+    void readsBulkheadFromMethodOverClass() {
+        RouteAnnotationModel defaults = reader.read(AsyncCommand.class, AsyncCommand.class.getAnnotation(Command.class), defaultMethod(AsyncCommand.class));
+        RouteAnnotationModel give = reader.read(AsyncCommand.class, AsyncCommand.class.getAnnotation(Command.class), subcommandMethod(AsyncCommand.class));
+        assertTrue(defaults.async());
+        assertEquals("", defaults.bulkhead());
+        assertEquals("economy", give.bulkhead());
+    }
+
+    @Test
+    void readsTimeoutFromMethodOverClass() {
+        RouteAnnotationModel defaults = reader.read(AsyncCommand.class, AsyncCommand.class.getAnnotation(Command.class), defaultMethod(AsyncCommand.class));
+        RouteAnnotationModel give = reader.read(AsyncCommand.class, AsyncCommand.class.getAnnotation(Command.class), subcommandMethod(AsyncCommand.class));
+        assertEquals(Duration.ofSeconds(5), defaults.timeout());
+        assertEquals(Duration.ofMillis(250), give.timeout());
+    }
+
+    @Test
+    void keepsSubMillisecondTimeouts() {
+        RouteAnnotationModel model = reader.read(
+                MicrosecondCommand.class, MicrosecondCommand.class.getAnnotation(Command.class), defaultMethod(MicrosecondCommand.class));
+        assertEquals(Duration.ofNanos(500_000), model.timeout());
+    }
+
     @Test
     void rejectsBothAnnotations() {
         RouteConfigurationException exception = assertThrows(RouteConfigurationException.class, () ->
@@ -128,6 +155,27 @@ final class RouteAnnotationReaderTest {
         void onGive() {}
     }
 
+    @Command("bank")
+    @Async
+    @Timeout(5)
+    private static final class AsyncCommand {
+        @Default
+        void onDefault() {}
+
+        @Subcommand("give")
+        @Async("economy")
+        @Timeout(value = 250, unit = TimeUnit.MILLISECONDS)
+        void onGive() {}
+    }
+
+    @Command("probe")
+    @Async
+    @Timeout(value = 500, unit = TimeUnit.MICROSECONDS)
+    private static final class MicrosecondCommand {
+        @Default
+        void onDefault() {}
+    }
+
     @Command("bad")
     private static final class BadCommand {
         @Default
@@ -0,0 +1,96 @@
+package io.github.hanielcota.commandframework.core;
+
+import io.github.hanielcota.commandframework.core.route.CommandLineTokens;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Read-only offset view over a list of argument tokens.
+ *
+ * <p>Route resolution hands the remaining arguments to the matched route as a
+ * view instead of a copy. The view never mutates the backing list, but it is
+ * only as stable as that list: {@link #immutable(List)} keeps views over
+ * {@link CommandLineTokens} or over its own copies, and copies anything
+ * else, since a caller could still modify it or it may hold {@code null}
+ * tokens.</p>
+ */
+public final class ArgumentView extends AbstractList<String> implements RandomAccess {
+
+    private static final ArgumentView EMPTY = new ArgumentView(List.of(), 0, 0, true);
+
+    private final List<String> tokens;
+    private final int from;
+    private final int to;
+    private final boolean immutableTokens;
+
+    private ArgumentView(List<String> tokens, int from, int to, boolean immutableTokens) {
+        this.tokens = tokens;
+        this.from = from;
+        this.to = to;
+        this.immutableTokens = immutableTokens;
+    }
+
+    /**
+     * Returns a view of {@code tokens} starting at {@code from}.
+     *
+     * @param tokens the backing tokens; never {@code null}
+     * @param from   the first visible index, between zero and {@code tokens.size()}
+     */
+    public static ArgumentView of(List<String> tokens, int from) {
+        Objects.requireNonNull(tokens, "tokens");
+        return of(tokens, from, tokens.size());
+    }
+
+    /**
+     * Returns a view of {@code tokens} between {@code from} (inclusive) and
+     * {@code to} (exclusive).
+     */
+    public static ArgumentView of(List<String> tokens, int from, int to) {
+        Objects.requireNonNull(tokens, "tokens");
+        Objects.checkFromToIndex(from, to, tokens.size());
+        if (from == to) {
+            return EMPTY;
+        }
+        if (tokens instanceof ArgumentView view) {
+            return new ArgumentView(view.tokens, view.from + from, view.from + to, view.immutableTokens);
+        }
+        return new ArgumentView(tokens, from, to, tokens instanceof CommandLineTokens);
+    }
+
+    /**
+     * Returns {@code arguments} itself when nobody can modify it any more
+     * ({@link CommandLineTokens}, or a view over those tokens or over a copy
+     * made here), otherwise a view over an immutable copy. Views are kept so
+     * lazily tokenized input is not copied into strings just to be stored,
+     * and copies are wrapped so views taken from them later are kept too.
+     * Any other list, even an unmodifiable one, is copied, which rejects
+     * {@code null} tokens.
+     *
+     * @throws NullPointerException if a copied list contains {@code null}
+     */
+    static List<String> immutable(List<String> arguments) {
+        if (arguments instanceof ArgumentView view ? view.immutableTokens : arguments instanceof CommandLineTokens) {
+            return arguments;
+        }
+        List<String> copy = List.copyOf(arguments);
+        return copy.isEmpty() ? EMPTY : new ArgumentView(copy, 0, copy.size(), true);
+    }
+
+    @Override
+    public String get(int index) {
+        Objects.checkIndex(index, to - from);
+        return tokens.get(from + index);
+    }
+
+    @Override
+    public int size() {
+        return to - from;
+    }
+
+    @Override
+    public List<String> subList(int fromIndex, int toIndex) {
+        return of(this, fromIndex, toIndex);
+    }
+}
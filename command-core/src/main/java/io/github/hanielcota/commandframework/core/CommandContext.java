@@ -13,6 +13,14 @@ import java.util.Optional;
  * parameters that were successfully parsed by the
  * {@link io.github.hanielcota.commandframework.core.dispatch.CommandParameterParser}.
  * </p>
+ *
+ * <p>The dispatcher resolves a context without parsed parameters; the
+ * execution stage parses them and attaches them with
+ * {@link #withParsedParameters}, which stores them by position in a
+ * {@link ParsedParameters} instead of copying a map. Interceptors and the
+ * executor see that second context. The resolved context shares
+ * {@link ParsedParameters#empty()}, so it allocates nothing for parameters,
+ * and routes without parameters keep it as is.</p>
  */
 public record CommandContext(
         CommandActor actor,
@@ -23,10 +31,11 @@ public record CommandContext(
 ) {
 
     /**
-     * Creates a context without parsed parameters (used before parsing).
+     * Creates a context without parsed parameters, which are attached after
+     * parsing by {@link #withParsedParameters}.
      */
     public CommandContext(CommandActor actor, CommandRoute route, String label, List<String> arguments) {
-        this(actor, route, label, arguments, Map.of());
+        this(actor, route, label, arguments, ParsedParameters.empty());
     }
 
     public CommandContext(
@@ -39,17 +48,27 @@ public record CommandContext(
         this.actor = Objects.requireNonNull(actor, "actor");
         this.route = Objects.requireNonNull(route, "route");
         this.label = Objects.requireNonNull(label, "label");
-        this.arguments = List.copyOf(arguments);
-        this.parsedParameters = Map.copyOf(parsedParameters);
+        this.arguments = ArgumentView.immutable(Objects.requireNonNull(arguments, "arguments"));
+        Objects.requireNonNull(parsedParameters, "parsedParameters");
+        this.parsedParameters = parsedParameters instanceof ParsedParameters indexed
+                ? indexed
+                : Map.copyOf(parsedParameters);
     }
 
     /**
-     * Returns a new context with the given parsed parameters attached.
+     * Returns a context with the given parsed parameters attached; this
+     * context itself when there are none to attach.
      *
      * @param parsed the successfully parsed parameters
      */
     public CommandContext withParsedParameters(List<ParsedParameter<?>> parsed) {
         Objects.requireNonNull(parsed, "parsed");
+        if (parsed.isEmpty() && parsedParameters.isEmpty()) {
+            return this;
+        }
+        if (ParsedParameters.matches(route, parsed)) {
+            return new CommandContext(actor, route, label, arguments, ParsedParameters.of(route, parsed));
+        }
         Map<String, ParsedParameter<?>> values = new LinkedHashMap<>();
         parsed.forEach(value -> values.put(value.parameter().name(), value));
         return new CommandContext(actor, route, label, arguments, values);
@@ -65,4 +84,19 @@ public record CommandContext(
         Objects.requireNonNull(name, "name");
         return Optional.ofNullable(parsedParameters.get(name));
     }
+
+    /**
+     * Looks up a parsed parameter by its position in
+     * {@link CommandRoute#parameters()}.
+     *
+     * @param index the parameter position
+     * @return the parsed parameter if present
+     */
+    public Optional<ParsedParameter<?>> parsedParameter(int index) {
+        Objects.checkIndex(index, route.parameters().size());
+        if (parsedParameters instanceof ParsedParameters indexed) {
+            return Optional.ofNullable(indexed.get(index));
+        }
+        return Optional.ofNullable(parsedParameters.get(route.parameters().get(index).name()));
+    }
 }
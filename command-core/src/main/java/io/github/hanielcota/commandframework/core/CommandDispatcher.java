@@ -1,28 +1,52 @@
 package io.github.hanielcota.commandframework.core;
 
+import io.github.hanielcota.commandframework.core.bulkhead.CommandBulkhead;
+import io.github.hanielcota.commandframework.core.bulkhead.RejectionPolicy;
 import io.github.hanielcota.commandframework.core.config.CommandConfiguration;
 import io.github.hanielcota.commandframework.core.config.ConfigurationOverlay;
 import io.github.hanielcota.commandframework.core.cooldown.RouteCooldownStore;
 import io.github.hanielcota.commandframework.core.dispatch.CommandParameterParser;
+import io.github.hanielcota.commandframework.core.mailbox.ActorMailboxes;
 import io.github.hanielcota.commandframework.core.message.DefaultCommandMessageProvider;
 import io.github.hanielcota.commandframework.core.metrics.CommandMetrics;
-import io.github.hanielcota.commandframework.core.pipeline.CommandDispatchStage;
-import io.github.hanielcota.commandframework.core.pipeline.DispatchContinuation;
+import io.github.hanielcota.commandframework.core.pipeline.DispatchPlan;
+import io.github.hanielcota.commandframework.core.pipeline.DispatchPlanCompiler;
 import io.github.hanielcota.commandframework.core.pipeline.ExecutionStage;
 import io.github.hanielcota.commandframework.core.pipeline.GuardStage;
+import io.github.hanielcota.commandframework.core.pipeline.PipelineStage;
+import io.github.hanielcota.commandframework.core.pipeline.StageSample;
 import io.github.hanielcota.commandframework.core.rate.DispatchThrottle;
+import io.github.hanielcota.commandframework.core.rate.InFlightDecision;
+import io.github.hanielcota.commandframework.core.rate.InFlightLimiter;
+import io.github.hanielcota.commandframework.core.route.CommandLineTokens;
 import io.github.hanielcota.commandframework.core.safety.ActorMessageDebouncer;
 import io.github.hanielcota.commandframework.core.safety.InputSanitizer;
 import io.github.hanielcota.commandframework.core.safety.SafeLogText;
 import io.github.hanielcota.commandframework.core.safety.SanitizedInput;
 import io.github.hanielcota.commandframework.core.suggestion.CommandSuggestionEngine;
+import io.github.hanielcota.commandframework.core.task.CommandTaskScope;
 import io.github.hanielcota.commandframework.core.usage.UsageFormatter;
+import io.github.hanielcota.commandframework.core.watchdog.SlowCommandWatchdog;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Central entry-point for command registration, dispatch and tab-completion.
@@ -33,7 +57,9 @@ import java.util.concurrent.Executor;
  *
  * <p>Dispatch follows a pipeline: pre-validation (throttle + sanitizer) →
  * route resolution → guard stage (permission, sender, cooldown) →
- * execution stage (parse + invoke + interceptors).</p>
+ * execution stage (parse + invoke + interceptors). Each registered route gets
+ * a {@link DispatchPlan} compiled at registration with only the guards and
+ * interceptors it needs; {@link #reloadConfiguration} recompiles them.</p>
  *
  * <p><strong>Thread-safety warning for Paper/Bukkit:</strong> When a route is
  * marked as async ({@link CommandRoute#async()}), the entire pipeline runs on
@@ -42,26 +68,65 @@ import java.util.concurrent.Executor;
  * command executors either avoid Bukkit API calls or schedule work back to the
  * main thread. The Paper adapter's {@code sendMessage} handles thread-safety
  * automatically when a Plugin reference is provided.</p>
+ *
+ * <p>An async route with a {@link CommandRoute#timeout()} is cancelled once
+ * the deadline passes: its thread is interrupted, its
+ * {@link CommandTaskScope} is cancelled along with every subtask it forked,
+ * and the actor gets {@link CommandMessageProvider#timedOut} with
+ * {@link CommandStatus#TIMEOUT}. A deadline is only enforced on a command
+ * handed off the dispatching thread, so registering a timeout on a
+ * synchronous route, or on an async route while the dispatcher has no async
+ * executor, mailboxes or bulkhead to hand it to, throws
+ * {@link RouteConfigurationException}.</p>
+ *
+ * <p>With {@link Builder#inFlightLimit} set, an async command is refused with
+ * {@link CommandStatus#IN_FLIGHT_LIMITED} before it is handed off if its actor
+ * or route already has that many commands running or queued.</p>
+ *
+ * <p>With {@link Builder#actorMailboxes} set, async routes without a bulkhead
+ * run one at a time per actor, in the order the actor sent them, through
+ * {@link ActorMailboxes}.</p>
+ *
+ * <p>With {@link Builder#stageTiming} set, a sampled share of resolved
+ * dispatches also reports how long each {@link PipelineStage} took, through
+ * {@code command.dispatch.stage} timers bound per route and stage.</p>
+ *
+ * <p>With {@link Builder#slowCommandWatchdog} set, synchronous commands that
+ * run past their budget are sampled and logged by a
+ * {@link SlowCommandWatchdog}.</p>
  */
-public final class CommandDispatcher {
+public final class CommandDispatcher implements AutoCloseable {
 
     private static final String ACTOR_PARAMETER = "actor";
     private static final String LABEL_PARAMETER = "label";
+    private static final String IN_FLIGHT_REJECTED = "command.inflight.rejected";
 
     private final CommandRouteRegistry registry;
+    private final @Nullable RouteResolutionCache resolutionCache;
     private final PreDispatchValidator validator;
     private final CommandMessenger messenger;
     private final CommandSuggestionEngine suggestions;
     private final CommandLogger logger;
     private final SafeLogText safeLogText;
-    private final CommandDispatchStage pipeline;
+    private final DispatchPlanCompiler planCompiler;
+    private final Map<CommandRoute, CompiledRoute> compiled = new ConcurrentHashMap<>();
     private final Executor asyncExecutor;
+    private final Map<String, CommandBulkhead> bulkheads;
+    private final @Nullable ActorMailboxes mailboxes;
     private final CommandMetrics metrics;
-    private final ConfigurationOverlay overlay;
-    private final java.util.Map<CommandRoute, CommandRoute> originalToOverlay = new java.util.concurrent.ConcurrentHashMap<>();
+    private final @Nullable InFlightLimiter inFlight;
+    private final double stageSampleRate;
+    private final @Nullable SlowCommandWatchdog watchdog;
+    private final @Nullable ScheduledExecutorService watchdogMonitor;
+    private final CommandMetrics.Counter actorInFlightRejections;
+    private final CommandMetrics.Counter routeInFlightRejections;
+    private @Nullable ScheduledExecutorService deadlines;
+    private @Nullable ScheduledExecutorService ownedDeadlines;
+    private volatile ConfigurationOverlay overlay;
+    private final Map<CommandRoute, CommandRoute> originalToOverlay = new ConcurrentHashMap<>();
 
     private CommandDispatcher(Builder builder) {
-        this.registry = builder.registry;
+        this.registry = new CommandRouteRegistry(builder.logger);
         this.validator = new PreDispatchValidator(builder.throttle, builder.sanitizer);
         ActorMessageDebouncer resolvedDebouncer = builder.debouncer != null
                 ? builder.debouncer
@@ -70,7 +135,7 @@ public final class CommandDispatcher {
         this.suggestions = new CommandSuggestionEngine(registry);
         this.logger = builder.logger;
         this.safeLogText = new SafeLogText();
-        this.pipeline = buildPipeline(
+        this.planCompiler = buildPlanCompiler(
                 builder.cooldownStore,
                 messenger,
                 List.copyOf(builder.interceptors),
@@ -79,7 +144,34 @@ public final class CommandDispatcher {
         );
         this.asyncExecutor = resolveAsyncExecutor(builder);
         this.metrics = builder.metrics;
+        this.bulkheads = buildBulkheads(builder, laneExecutor(asyncExecutor), metrics);
+        this.mailboxes = builder.mailboxDepth > 0
+                ? new ActorMailboxes(builder.mailboxDepth, laneExecutor(asyncExecutor), metrics)
+                : null;
+        this.deadlines = builder.deadlineScheduler;
+        this.stageSampleRate = builder.stageSampleRate;
+        this.watchdogMonitor = builder.slowCommandBudget != null ? watchdogMonitor() : null;
+        this.watchdog = watchdogMonitor != null
+                ? new SlowCommandWatchdog(Objects.requireNonNull(builder.slowCommandBudget, "slowCommandBudget"),
+                        builder.slowCommandSamples, builder.slowCommandSampleInterval, watchdogMonitor, logger)
+                : null;
+        this.inFlight = builder.maxInFlightPerActor > 0 || builder.maxInFlightPerRoute > 0
+                ? new InFlightLimiter(builder.maxInFlightPerActor, builder.maxInFlightPerRoute)
+                : null;
+        CommandMetrics inFlightMetrics = inFlight != null ? metrics : CommandMetrics.noop();
+        this.actorInFlightRejections = inFlightMetrics.counter(IN_FLIGHT_REJECTED, CommandMetrics.tags("limit", "actor"));
+        this.routeInFlightRejections = inFlightMetrics.counter(IN_FLIGHT_REJECTED, CommandMetrics.tags("limit", "route"));
         this.overlay = new ConfigurationOverlay(builder.configuration);
+        this.resolutionCache = builder.resolutionCacheSize > 0
+                ? new RouteResolutionCache(registry, builder.resolutionCacheSize, metrics)
+                : null;
+    }
+
+    private static ScheduledExecutorService watchdogMonitor() {
+        ScheduledThreadPoolExecutor monitor = new ScheduledThreadPoolExecutor(
+                1, Thread.ofPlatform().name("command-watchdog").daemon().factory());
+        monitor.setRemoveOnCancelPolicy(true);
+        return monitor;
     }
 
     private static Executor resolveAsyncExecutor(Builder builder) {
@@ -92,14 +184,32 @@ public final class CommandDispatcher {
         return null;
     }
 
-    private static CommandDispatchStage buildPipeline(
+    /**
+     * Returns where bulkheads and mailboxes run: the async executor, or
+     * virtual threads when none is configured.
+     */
+    private static Executor laneExecutor(@Nullable Executor asyncExecutor) {
+        return asyncExecutor != null ? asyncExecutor : command -> Thread.ofVirtual().start(command);
+    }
+
+    private static Map<String, CommandBulkhead> buildBulkheads(
+            Builder builder,
+            Executor executor,
+            CommandMetrics metrics) {
+        Map<String, CommandBulkhead> bulkheads = new LinkedHashMap<>();
+        builder.bulkheads.forEach((name, spec) -> bulkheads.put(name, new CommandBulkhead(
+                name, spec.maxConcurrency(), spec.queueCapacity(), spec.policy(), executor, metrics)));
+        return Map.copyOf(bulkheads);
+    }
+
+    private static DispatchPlanCompiler buildPlanCompiler(
             RouteCooldownStore cooldownStore,
             CommandMessenger messenger,
             List<CommandInterceptor> interceptors,
             CommandLogger logger,
             SafeLogText safeLogText) {
-        CommandDispatchStage guard = new GuardStage(cooldownStore, messenger, logger);
-        CommandDispatchStage execution = new ExecutionStage(
+        GuardStage guard = new GuardStage(cooldownStore, messenger, logger);
+        ExecutionStage execution = new ExecutionStage(
                 new CommandParameterParser(),
                 new UsageFormatter(),
                 messenger,
@@ -107,7 +217,7 @@ public final class CommandDispatcher {
                 logger,
                 safeLogText
         );
-        return (context, continuation) -> guard.process(context, ctx -> execution.process(ctx, DispatchContinuation.terminal()));
+        return new DispatchPlanCompiler(guard, execution);
     }
 
     public static Builder builder() {
@@ -115,20 +225,209 @@ public final class CommandDispatcher {
     }
 
     public void register(CommandRoute route) {
-        CommandRoute applied = overlay.apply(route);
-        originalToOverlay.put(route, applied);
-        registry.register(applied);
+        update(List.of(), List.of(Objects.requireNonNull(route, "route")));
     }
 
     public void unregister(CommandRoute route) {
-        CommandRoute applied = originalToOverlay.remove(route);
-        registry.unregister(applied != null ? applied : route);
+        update(List.of(Objects.requireNonNull(route, "route")), List.of());
+    }
+
+    /**
+     * Registers every route in one registry change.
+     *
+     * @see CommandRouteRegistry#update(Collection, Collection)
+     */
+    public void registerAll(Collection<CommandRoute> routes) {
+        update(List.of(), routes);
+    }
+
+    /**
+     * Unregisters every route in one registry change.
+     *
+     * @see CommandRouteRegistry#update(Collection, Collection)
+     */
+    public void unregisterAll(Collection<CommandRoute> routes) {
+        update(routes, List.of());
+    }
+
+    /**
+     * Removes and then registers routes as one registry change, with a single
+     * snapshot publish. Nothing changes if any registration is rejected.
+     *
+     * @see CommandRouteRegistry#update(Collection, Collection)
+     */
+    public synchronized void update(Collection<CommandRoute> removals, Collection<CommandRoute> registrations) {
+        Objects.requireNonNull(removals, "removals");
+        Objects.requireNonNull(registrations, "registrations");
+        apply(List.copyOf(removals), List.copyOf(registrations), overlay);
+    }
+
+    /**
+     * Replaces the configuration and re-registers every route with the new
+     * overrides applied, as one registry change. The routes' dispatch plans
+     * are compiled again. Nothing changes if a reconfigured route is rejected.
+     *
+     * @param configuration the new configuration; never {@code null}
+     */
+    public synchronized void reloadConfiguration(CommandConfiguration configuration) {
+        ConfigurationOverlay reloaded = new ConfigurationOverlay(Objects.requireNonNull(configuration, "configuration"));
+        List<CommandRoute> originals = List.copyOf(originalToOverlay.keySet());
+        apply(originals, originals, reloaded);
+        this.overlay = reloaded;
+    }
+
+    /**
+     * Applies a batch with {@code overlay}. Plans and metric instruments for
+     * the new routes are bound before the registry publishes them, and those
+     * of the removed routes are dropped once it has.
+     */
+    private void apply(List<CommandRoute> removals, List<CommandRoute> originals, ConfigurationOverlay overlay) {
+        List<CommandRoute> appliedRemovals = new ArrayList<>(removals.size());
+        for (CommandRoute route : removals) {
+            CommandRoute applied = originalToOverlay.get(route);
+            appliedRemovals.add(applied != null ? applied : route);
+        }
+        List<CommandRoute> appliedRegistrations = new ArrayList<>(originals.size());
+        List<CompiledRoute> compiledRegistrations = new ArrayList<>(originals.size());
+        for (CommandRoute route : originals) {
+            CommandRoute applied = overlay.apply(route);
+            appliedRegistrations.add(applied);
+            compiledRegistrations.add(compile(applied));
+        }
+        for (int index = 0; index < appliedRegistrations.size(); index++) {
+            compiled.put(appliedRegistrations.get(index), compiledRegistrations.get(index));
+        }
+        try {
+            registry.update(appliedRemovals, appliedRegistrations);
+        } catch (RuntimeException exception) {
+            appliedRegistrations.forEach(compiled::remove);
+            throw exception;
+        }
+        appliedRemovals.forEach(compiled::remove);
+        removals.forEach(originalToOverlay::remove);
+        for (int index = 0; index < originals.size(); index++) {
+            originalToOverlay.put(originals.get(index), appliedRegistrations.get(index));
+        }
+    }
+
+    /** Returns the compiled dispatch plan of a registered route. */
+    Optional<DispatchPlan> plan(CommandRoute route) {
+        return Optional.ofNullable(compiled.get(Objects.requireNonNull(route, "route"))).map(CompiledRoute::plan);
+    }
+
+    private CompiledRoute compile(CommandRoute route) {
+        CommandBulkhead bulkhead = bulkheadFor(route);
+        return new CompiledRoute(
+                planCompiler.compile(route),
+                new RouteInstruments(metrics, route.canonicalPath(), stageSampleRate > 0),
+                bulkhead,
+                deadlinesFor(route, bulkhead));
+    }
+
+    /** Returns the scheduler enforcing the route's timeout, rejecting timeouts no dispatch would enforce. */
+    private @Nullable ScheduledExecutorService deadlinesFor(CommandRoute route, @Nullable CommandBulkhead bulkhead) {
+        if (!route.hasTimeout()) {
+            return null;
+        }
+        if (!route.async()) {
+            throw new RouteConfigurationException("Invalid timeout for route '" + route.canonicalPath()
+                    + "': expected an async route, since synchronous routes are never interrupted");
+        }
+        if (bulkhead == null && mailboxes == null && asyncExecutor == null) {
+            throw new RouteConfigurationException("Invalid timeout for route '" + route.canonicalPath()
+                    + "': expected an async executor, mailboxes or a bulkhead to run it off the dispatching thread");
+        }
+        return deadlines();
+    }
+
+    /** Returns the deadline scheduler, starting the default one on first use. */
+    private synchronized ScheduledExecutorService deadlines() {
+        ScheduledExecutorService scheduler = deadlines;
+        if (scheduler == null) {
+            ScheduledThreadPoolExecutor created = new ScheduledThreadPoolExecutor(
+                    1, Thread.ofPlatform().name("command-deadlines").daemon().factory());
+            created.setRemoveOnCancelPolicy(true);
+            scheduler = created;
+            deadlines = scheduler;
+            ownedDeadlines = scheduler;
+        }
+        return scheduler;
+    }
+
+    /**
+     * Stops the scheduler threads this dispatcher started itself: the default
+     * deadline scheduler and the slow command monitor. Schedulers and
+     * executors passed to the builder are left to their owner. Platform
+     * adapters call this when their plugin is disabled, so a reload does not
+     * leak threads that pin the old plugin's class loader.
+     *
+     * <p>Commands can still be dispatched afterwards, but their deadlines are
+     * no longer enforced and slow commands are no longer reported.</p>
+     */
+    @Override
+    public synchronized void close() {
+        ScheduledExecutorService scheduler = ownedDeadlines;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (watchdogMonitor != null) {
+            watchdogMonitor.shutdownNow();
+        }
+    }
+
+    private @Nullable CommandBulkhead bulkheadFor(CommandRoute route) {
+        if (!route.async() || route.bulkhead().isEmpty()) {
+            return null;
+        }
+        CommandBulkhead bulkhead = bulkheads.get(route.bulkhead());
+        if (bulkhead == null) {
+            throw new RouteConfigurationException("Invalid bulkhead '" + route.bulkhead() + "' for route '"
+                    + route.canonicalPath() + "': expected one configured on the dispatcher");
+        }
+        if (route.hasTimeout() && bulkhead.policy() == RejectionPolicy.CALLER_RUNS) {
+            // A full CALLER_RUNS bulkhead runs the command on the dispatching thread, which a deadline must never interrupt.
+            throw new RouteConfigurationException("Invalid timeout for route '" + route.canonicalPath() + "' in bulkhead '"
+                    + route.bulkhead() + "': expected a bulkhead whose policy is not CALLER_RUNS");
+        }
+        return bulkhead;
+    }
+
+    /** Finds a bulkhead configured with {@link Builder#bulkhead}. */
+    public Optional<CommandBulkhead> bulkhead(String name) {
+        return Optional.ofNullable(bulkheads.get(Objects.requireNonNull(name, "name")));
     }
 
     public List<CommandRoot> roots() {
         return registry.roots();
     }
 
+    /**
+     * Returns the registry generation, which grows with every published change.
+     *
+     * @see CommandRouteRegistry#generation()
+     */
+    public long routeGeneration() {
+        return registry.generation();
+    }
+
+    /**
+     * Adds a listener notified after every route registry change.
+     *
+     * @see CommandRouteRegistry#addListener(RouteRegistryListener)
+     */
+    public void addRouteListener(RouteRegistryListener listener) {
+        registry.addListener(listener);
+    }
+
+    public void removeRouteListener(RouteRegistryListener listener) {
+        registry.removeListener(listener);
+    }
+
+    /** Finds a registered root by label or alias. */
+    public Optional<CommandRoot> root(String label) {
+        return registry.root(label);
+    }
+
     public CommandLogger logger() {
         return logger;
     }
@@ -137,32 +436,283 @@ public final class CommandDispatcher {
         return dispatch(actor, label, arguments == null ? List.of() : java.util.Arrays.asList(arguments));
     }
 
+    /**
+     * Dispatches a raw command line such as {@code "kit give Steve"}, without
+     * the leading slash.
+     *
+     * <p>The line is tokenized in one pass into {@link CommandLineTokens};
+     * literals are matched on slices of the line and a token is only copied
+     * into a string when a parameter resolver, message or log needs it. A
+     * mutable {@link CharSequence} is copied once up front, since async routes
+     * may read the tokens after this method returns.</p>
+     */
+    public CommandResult dispatch(CommandActor actor, CharSequence commandLine) {
+        Objects.requireNonNull(commandLine, "commandLine");
+        CommandLineTokens tokens = CommandLineTokens.tokenize(commandLine.toString());
+        String label = tokens.isEmpty() ? "" : tokens.get(0);
+        return dispatch(actor, label, tokens.isEmpty() ? tokens : tokens.subList(1, tokens.size()));
+    }
+
+    /**
+     * Dispatches {@code label} with its arguments still as one raw string, as
+     * platforms such as Velocity provide them.
+     *
+     * @see #dispatch(CommandActor, CharSequence)
+     */
+    public CommandResult dispatch(CommandActor actor, String label, CharSequence arguments) {
+        Objects.requireNonNull(arguments, "arguments");
+        return dispatch(actor, label, CommandLineTokens.tokenize(arguments.toString()));
+    }
+
+    /**
+     * Dispatches a command and returns its result.
+     *
+     * <p>A route marked {@link CommandRoute#async()} runs on the async executor
+     * and this method returns {@link CommandResult#accepted()} right away; use
+     * {@link #dispatchAsync(CommandActor, String, List)} to await its result.
+     * Its metrics are recorded when it completes either way.</p>
+     */
     public CommandResult dispatch(CommandActor actor, String label, List<String> arguments) {
+        CommandResult result = dispatch(actor, label, arguments, null);
+        return result != null ? result : CommandResult.accepted();
+    }
+
+    /**
+     * Dispatches a command and returns a stage completed with its result.
+     *
+     * <p>The stage of a route marked {@link CommandRoute#async()} completes on
+     * the async executor once the pipeline finishes; every other dispatch
+     * returns an already completed stage. The stage never completes with
+     * {@link CommandStatus#ACCEPTED} on behalf of the dispatcher.</p>
+     */
+    public CompletionStage<CommandResult> dispatchAsync(CommandActor actor, String label, List<String> arguments) {
+        CompletableFuture<CommandResult> completion = new CompletableFuture<>();
+        CommandResult result = dispatch(actor, label, arguments, completion);
+        if (result != null) {
+            completion.complete(result);
+        }
+        return completion;
+    }
+
+    /**
+     * Dispatches a raw command line and returns a stage completed with its
+     * result.
+     *
+     * @see #dispatch(CommandActor, CharSequence)
+     * @see #dispatchAsync(CommandActor, String, List)
+     */
+    public CompletionStage<CommandResult> dispatchAsync(CommandActor actor, CharSequence commandLine) {
+        Objects.requireNonNull(commandLine, "commandLine");
+        CommandLineTokens tokens = CommandLineTokens.tokenize(commandLine.toString());
+        String label = tokens.isEmpty() ? "" : tokens.get(0);
+        return dispatchAsync(actor, label, tokens.isEmpty() ? tokens : tokens.subList(1, tokens.size()));
+    }
+
+    /**
+     * Dispatches a batch of commands from one actor, such as a console script
+     * or a synced command stream, and returns a stage completed with one
+     * result per invocation, in order.
+     *
+     * <p>The batch resolves every invocation against one registry snapshot,
+     * so routes registered while it runs, and the corrections suggested for
+     * unknown commands, do not depend on concurrent changes. The valid
+     * invocations claim their throttle permits in one bucket operation; those
+     * past the permits the actor has left are rate limited, so a batch is
+     * throttled exactly like the same commands sent one by one. Every
+     * invocation is still sanitized and reported to metrics on its own, and
+     * resolution reuses one cursor. Synchronous routes run in order on the
+     * calling thread; async routes are handed off as they are reached and run
+     * concurrently with the rest of the batch on their executor, bulkhead or
+     * actor mailbox.</p>
+     *
+     * @see #dispatchBatch(CommandActor, List, Executor)
+     */
+    public CompletionStage<List<CommandResult>> dispatchBatch(CommandActor actor, List<CommandInvocation> invocations) {
+        return dispatchBatch(actor, invocations, null);
+    }
+
+    /**
+     * Dispatches a batch like {@link #dispatchBatch(CommandActor, List)}, but
+     * runs the synchronous routes of the batch on {@code parallel} instead of
+     * the calling thread, so independent invocations spread across cores.
+     *
+     * <p>Validation, throttling and resolution still happen in order on the
+     * calling thread; only the pipelines run concurrently, in no particular
+     * order, and results are still returned in invocation order. Use it only
+     * for batches whose synchronous routes need neither the platform's main
+     * thread nor each other's effects, such as proxy or console automation. If
+     * {@code parallel} refuses a task, that invocation runs on the calling
+     * thread.</p>
+     *
+     * @param parallel where synchronous routes run, or {@code null} to run them
+     *                 in order on the calling thread
+     */
+    public CompletionStage<List<CommandResult>> dispatchBatch(
+            CommandActor actor,
+            List<CommandInvocation> invocations,
+            @Nullable Executor parallel) {
+        Objects.requireNonNull(actor, ACTOR_PARAMETER);
+        Objects.requireNonNull(actor.uniqueId(), "actor.uniqueId");
+        List<CommandInvocation> batch = List.copyOf(Objects.requireNonNull(invocations, "invocations"));
+        if (batch.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        logger.trace("Batch dispatch start: actor=%s, size=%s", actor.uniqueId(), batch.size());
+        RouteSnapshot snapshot = registry.snapshot();
+        SanitizedInput[] inputs = new SanitizedInput[batch.size()];
+        int valid = 0;
+        for (int index = 0; index < inputs.length; index++) {
+            inputs[index] = validator.sanitize(batch.get(index).arguments());
+            if (inputs[index].isValid()) {
+                valid++;
+            }
+        }
+        int permits = valid > 0 ? validator.claim(actor, valid) : 0;
+        RouteCursor cursor = new RouteCursor();
+        List<CompletableFuture<CommandResult>> results = new ArrayList<>(batch.size());
+        for (int index = 0; index < inputs.length; index++) {
+            SanitizedInput input = inputs[index];
+            // Permits go to valid invocations in order, as if each had claimed its own.
+            boolean permitted = input.isValid() && permits-- > 0;
+            CompletableFuture<CommandResult> completion = new CompletableFuture<>();
+            CommandResult result = dispatchInBatch(
+                    actor, batch.get(index), input, permitted, snapshot, cursor, completion, parallel);
+            if (result != null) {
+                completion.complete(result);
+            }
+            results.add(completion);
+        }
+        return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> results.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * Dispatches one invocation of a batch. {@code cursor} is shared by the
+     * whole batch and is free again when this returns, since a route handed
+     * to another thread only keeps the context built from it.
+     */
+    private @Nullable CommandResult dispatchInBatch(
+            CommandActor actor,
+            CommandInvocation invocation,
+            SanitizedInput input,
+            boolean permitted,
+            RouteSnapshot snapshot,
+            RouteCursor cursor,
+            CompletableFuture<CommandResult> completion,
+            @Nullable Executor parallel) {
+        long startNanos = System.nanoTime();
+        if (!input.isValid()) {
+            return rejectInvalid(actor, invocation.label(), input.invalidValue(), input.expectedValue());
+        }
+        if (!permitted) {
+            return rejectThrottled(actor, invocation.label());
+        }
+        boolean resolved = registry.resolve(snapshot, invocation.label(), input.arguments(), cursor);
+        CommandRoute route = cursor.routeValue();
+        if (parallel == null || !resolved || route == null || route.async()) {
+            return dispatchMatch(
+                    actor, invocation.label(), input.arguments(), cursor, resolved, snapshot, startNanos, completion, null);
+        }
+        CommandContext context = resolvedContext(actor, invocation.label(), input.arguments(), cursor);
+        CompiledRoute target = compiledFor(route);
+        Runnable pipeline = () -> {
+            try {
+                CommandResult result = dispatchResolved(context, target, startNanos, completion, null);
+                if (result != null) {
+                    completion.complete(result);
+                }
+            } catch (Throwable throwable) {
+                completion.completeExceptionally(throwable);
+                throw throwable;
+            }
+        };
+        try {
+            parallel.execute(pipeline);
+        } catch (RuntimeException exception) {
+            logger.debug("Batch executor refused an invocation: route=%s, reason=%s", route.canonicalPath(), exception.getMessage());
+            pipeline.run();
+        }
+        return null;
+    }
+
+    /**
+     * Runs a dispatch, returning {@code null} when the route was handed to the
+     * async executor; {@code completion}, if given, is then completed there.
+     */
+    private @Nullable CommandResult dispatch(
+            CommandActor actor,
+            String label,
+            List<String> arguments,
+            @Nullable CompletableFuture<CommandResult> completion) {
         Objects.requireNonNull(actor, ACTOR_PARAMETER);
         Objects.requireNonNull(label, LABEL_PARAMETER);
         Objects.requireNonNull(arguments, "arguments");
         Objects.requireNonNull(actor.uniqueId(), "actor.uniqueId");
-        logger.trace("Dispatch start: actor=%s, label=%s, args=%s".formatted(actor.uniqueId(), label, arguments));
+        logger.trace("Dispatch start: actor=%s, label=%s, args=%s", actor.uniqueId(), label, arguments);
         long startNanos = System.nanoTime();
-        var validation = validator.validate(actor, arguments);
-        if (!validation.isValid()) {
-            logger.debug("Dispatch rejected: actor=%s, reason=%s".formatted(actor.uniqueId(), validation.rateLimited() ? "rate-limited" : "invalid-input"));
-            metrics.increment("command.dispatch", CommandMetrics.tags("status", validation.rateLimited() ? "throttled" : "invalid-input", "route", label));
-            if (validation.rateLimited()) {
-                return messenger.rateLimited(actor);
-            }
-            return messenger.invalidInput(actor, validation.invalidValue(), validation.expectedValue());
+        StageSample sample = sample(startNanos);
+        SanitizedInput input = validator.sanitize(arguments);
+        lap(sample, PipelineStage.SANITIZE);
+        if (!input.isValid()) {
+            return rejectInvalid(actor, label, input.invalidValue(), input.expectedValue());
         }
-        var result = resolveAndDispatch(actor, label, validation.arguments());
-        metrics.record("command.dispatch.duration", CommandMetrics.tags("route", label), Duration.ofNanos(System.nanoTime() - startNanos));
-        metrics.increment("command.dispatch", CommandMetrics.tags("status", result.status().name().toLowerCase(), "route", label));
-        return result;
+        if (!validator.claim(actor)) {
+            return rejectThrottled(actor, label);
+        }
+        lap(sample, PipelineStage.THROTTLE);
+        return resolveAndDispatch(actor, label, input.arguments(), startNanos, completion, sample);
+    }
+
+    /** Picks the dispatches whose stages are timed, at the configured rate. */
+    private @Nullable StageSample sample(long startNanos) {
+        if (stageSampleRate <= 0 || (stageSampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= stageSampleRate)) {
+            return null;
+        }
+        return new StageSample(startNanos);
+    }
+
+    private static void lap(@Nullable StageSample sample, PipelineStage stage) {
+        if (sample != null) {
+            sample.lap(stage);
+        }
+    }
+
+    private CommandResult rejectInvalid(CommandActor actor, String label, String invalidValue, String expectedValue) {
+        logger.debug("Dispatch rejected: actor=%s, reason=%s", actor.uniqueId(), "invalid-input");
+        metrics.increment(RouteInstruments.DISPATCH, CommandMetrics.tags("status", "invalid-input", "route", label));
+        return messenger.invalidInput(actor, invalidValue, expectedValue);
+    }
+
+    private CommandResult rejectThrottled(CommandActor actor, String label) {
+        logger.debug("Dispatch rejected: actor=%s, reason=%s", actor.uniqueId(), "rate-limited");
+        metrics.increment(RouteInstruments.DISPATCH, CommandMetrics.tags("status", "throttled", "route", label));
+        return messenger.rateLimited(actor);
     }
 
     public List<String> suggest(CommandActor actor, String label, String[] arguments) {
         return suggest(actor, label, arguments == null ? List.of() : java.util.Arrays.asList(arguments));
     }
 
+    /**
+     * Suggests completions for a raw command line, tokenized like
+     * {@link #dispatch(CommandActor, CharSequence)}.
+     */
+    public List<String> suggest(CommandActor actor, CharSequence commandLine) {
+        Objects.requireNonNull(commandLine, "commandLine");
+        CommandLineTokens tokens = CommandLineTokens.tokenize(commandLine.toString());
+        String label = tokens.isEmpty() ? "" : tokens.get(0);
+        return suggest(actor, label, tokens.isEmpty() ? tokens : tokens.subList(1, tokens.size()));
+    }
+
+    /**
+     * Suggests completions for {@code label} with its arguments still as one
+     * raw string.
+     */
+    public List<String> suggest(CommandActor actor, String label, CharSequence arguments) {
+        Objects.requireNonNull(arguments, "arguments");
+        return suggest(actor, label, CommandLineTokens.tokenize(arguments.toString()));
+    }
+
     public List<String> suggest(CommandActor actor, String label, List<String> arguments) {
         Objects.requireNonNull(actor, ACTOR_PARAMETER);
         Objects.requireNonNull(label, LABEL_PARAMETER);
@@ -175,39 +725,143 @@ public final class CommandDispatcher {
         return suggestions.suggest(actor, label, input.arguments());
     }
 
-    private CommandResult resolveAndDispatch(CommandActor actor, String label, List<String> arguments) {
-        var resolution = registry.resolve(label, arguments);
-        return switch (resolution) {
-            case RouteResolution.Found found -> {
-                var match = found.matchValue();
-                logger.trace("Route resolved: label=%s -> %s".formatted(label, match.route().canonicalPath()));
-                var context = new CommandContext(actor, match.route(), label, match.arguments());
-                yield dispatchResolved(context);
-            }
-            case RouteResolution.NotFound notFound -> {
-                logger.debug("Route not found: label=%s, args=%s".formatted(label, arguments));
-                yield messenger.unknownCommand(actor, label);
-            }
-        };
+    private @Nullable CommandResult resolveAndDispatch(
+            CommandActor actor,
+            String label,
+            List<String> arguments,
+            long startNanos,
+            @Nullable CompletableFuture<CommandResult> completion,
+            @Nullable StageSample sample) {
+        RouteCursor cursor = new RouteCursor();
+        boolean resolved = resolutionCache != null
+                ? resolutionCache.resolve(label, arguments, cursor)
+                : registry.resolve(label, arguments, cursor);
+        lap(sample, PipelineStage.RESOLVE);
+        return dispatchMatch(actor, label, arguments, cursor, resolved, null, startNanos, completion, sample);
     }
 
-    private CommandResult dispatchResolved(CommandContext context) {
-        if (context.route().async() && asyncExecutor != null) {
+    /**
+     * Dispatches the route in {@code cursor}, or answers an unknown command
+     * with corrections from {@code snapshot}, or from the live registry when
+     * the caller did not resolve against a fixed snapshot.
+     */
+    private @Nullable CommandResult dispatchMatch(
+            CommandActor actor,
+            String label,
+            List<String> arguments,
+            RouteCursor cursor,
+            boolean resolved,
+            @Nullable RouteSnapshot snapshot,
+            long startNanos,
+            @Nullable CompletableFuture<CommandResult> completion,
+            @Nullable StageSample sample) {
+        if (!resolved) {
+            logger.debug("Route not found: label=%s, args=%s", label, arguments);
+            List<String> corrections = snapshot != null
+                    ? registry.corrections(snapshot, label, arguments)
+                    : registry.corrections(label, arguments);
+            CommandResult result = messenger.unknownCommand(actor, label, corrections);
+            metrics.record(RouteInstruments.DURATION, CommandMetrics.tags("route", label), Duration.ofNanos(System.nanoTime() - startNanos));
+            metrics.increment(RouteInstruments.DISPATCH, CommandMetrics.tags("status", RouteInstruments.tag(result.status()), "route", label));
+            return result;
+        }
+        CommandContext context = resolvedContext(actor, label, arguments, cursor);
+        return dispatchResolved(context, compiledFor(context.route()), startNanos, completion, sample);
+    }
+
+    private CommandContext resolvedContext(CommandActor actor, String label, List<String> arguments, RouteCursor cursor) {
+        CommandRoute route = Objects.requireNonNull(cursor.routeValue(), "routeValue");
+        logger.trace("Route resolved: label=%s -> %s", label, route.canonicalPath());
+        return new CommandContext(actor, route, label, cursor.remaining(arguments));
+    }
+
+    private @Nullable CommandResult dispatchResolved(
+            CommandContext context,
+            CompiledRoute target,
+            long startNanos,
+            @Nullable CompletableFuture<CommandResult> completion,
+            @Nullable StageSample sample) {
+        CommandBulkhead bulkhead = target.bulkhead();
+        boolean async = context.route().async();
+        boolean handedOff = bulkhead != null || (async && (mailboxes != null || asyncExecutor != null));
+        if (handedOff && !acquireInFlight(context)) {
+            return finish(target, messenger.tooManyInFlight(context), startNanos);
+        }
+        if (bulkhead != null) {
+            AsyncRun run = new AsyncRun(context, target, startNanos, completion, sample).arm();
+            if (!bulkhead.execute(run, run::reject)) {
+                logger.debug("Bulkhead full: bulkhead=%s, route=%s", bulkhead.name(), context.route().canonicalPath());
+                run.release();
+                return run.settle() ? finish(target, messenger.serverBusy(context), startNanos) : null;
+            }
+            return null;
+        }
+        if (async && mailboxes != null) {
+            AsyncRun run = new AsyncRun(context, target, startNanos, completion, sample).arm();
+            if (!mailboxes.execute(context.actor().uniqueId(), run, run::reject)) {
+                logger.debug("Mailbox full: actor=%s, route=%s", context.actor().uniqueId(), context.route().canonicalPath());
+                run.release();
+                return run.settle() ? finish(target, messenger.serverBusy(context), startNanos) : null;
+            }
+            return null;
+        }
+        if (async && asyncExecutor != null) {
+            AsyncRun run = new AsyncRun(context, target, startNanos, completion, sample).arm();
             try {
-                asyncExecutor.execute(() -> runPipeline(context));
+                asyncExecutor.execute(run);
             } catch (RuntimeException exception) {
                 logger.warn("Async dispatch rejected for route: " + context.route().canonicalPath(), exception);
-                return runtimeErrorResult(context, exception);
+                run.release();
+                return run.settle() ? finish(target, runtimeErrorResult(context, exception), startNanos) : null;
+            }
+            return null;
+        }
+        CommandResult result;
+        SlowCommandWatchdog.Watch watch = watchdog != null
+                ? watchdog.watch(context.route().canonicalPath(), context.actor().uniqueId())
+                : null;
+        try {
+            result = runPipeline(context, target.plan(), sample);
+        } finally {
+            if (watch != null) {
+                watch.close();
             }
-            return CommandResult.accepted();
         }
-        return runPipeline(context);
+        if (sample != null) {
+            target.instruments().record(sample);
+        }
+        return finish(target, result, startNanos);
+    }
+
+    private boolean acquireInFlight(CommandContext context) {
+        if (inFlight == null) {
+            return true;
+        }
+        InFlightDecision decision = inFlight.tryAcquire(context.actor().uniqueId(), context.route().canonicalPath());
+        if (decision == InFlightDecision.ALLOWED) {
+            return true;
+        }
+        logger.debug("In-flight limit reached: actor=%s, route=%s, limit=%s",
+                context.actor().uniqueId(), context.route().canonicalPath(), decision);
+        (decision == InFlightDecision.ACTOR_LIMITED ? actorInFlightRejections : routeInFlightRejections).increment();
+        return false;
+    }
+
+    private static void complete(@Nullable CompletableFuture<CommandResult> completion, CommandResult result) {
+        if (completion != null) {
+            completion.complete(result);
+        }
+    }
+
+    private CommandResult finish(CompiledRoute target, CommandResult result, long startNanos) {
+        target.instruments().record(result.status(), System.nanoTime() - startNanos);
+        return result;
     }
 
-    private CommandResult runPipeline(CommandContext context) {
+    private CommandResult runPipeline(CommandContext context, DispatchPlan plan, @Nullable StageSample sample) {
         try {
-            var result = pipeline.process(context, DispatchContinuation.terminal());
-            logger.trace("Pipeline finished: route=%s, status=%s".formatted(context.route().canonicalPath(), result.status()));
+            var result = plan.execute(context, sample);
+            logger.trace("Pipeline finished: route=%s, status=%s", context.route().canonicalPath(), result.status());
             return result;
         } catch (RuntimeException exception) {
             logger.warn("Pipeline runtime error for route: " + context.route().canonicalPath(), exception);
@@ -215,15 +869,188 @@ public final class CommandDispatcher {
         }
     }
 
+    /**
+     * Returns the route's plan and instruments. A dispatch that resolved a
+     * route just before it was unregistered compiles throwaway ones instead of
+     * caching them.
+     */
+    private CompiledRoute compiledFor(CommandRoute route) {
+        CompiledRoute target = compiled.get(route);
+        return target != null ? target : compile(route);
+    }
+
     private CommandResult runtimeErrorResult(CommandContext context, RuntimeException exception) {
         String route = safeLogText.clean(context.route().canonicalPath());
         logger.warn("Command route failed: " + route, exception);
         return messenger.internalError(context);
     }
 
+    private record CompiledRoute(
+            DispatchPlan plan,
+            RouteInstruments instruments,
+            @Nullable CommandBulkhead bulkhead,
+            @Nullable ScheduledExecutorService deadlines) {
+    }
+
+    /**
+     * One async command on its way through the executor or a bulkhead. It
+     * settles exactly once: with the pipeline's result, a rejection, or a
+     * timeout. Its metrics cover the time from dispatch to settling, including
+     * the queue, and so does its deadline.
+     */
+    private final class AsyncRun implements Runnable {
+
+        private final CommandContext context;
+        private final CompiledRoute target;
+        private final long startNanos;
+        private final @Nullable CompletableFuture<CommandResult> completion;
+        private final @Nullable StageSample sample;
+        private final AtomicBoolean settled = new AtomicBoolean();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private final CommandTaskScope scope = new CommandTaskScope();
+        private final Thread caller = Thread.currentThread();
+        private volatile @Nullable ScheduledFuture<?> deadline;
+        private @Nullable Thread worker;
+        private boolean interrupted;
+
+        private AsyncRun(
+                CommandContext context,
+                CompiledRoute target,
+                long startNanos,
+                @Nullable CompletableFuture<CommandResult> completion,
+                @Nullable StageSample sample) {
+            this.context = context;
+            this.target = target;
+            this.startNanos = startNanos;
+            this.completion = completion;
+            this.sample = sample;
+        }
+
+        /** Starts the route's deadline, if it has one; called before the run is submitted. */
+        private AsyncRun arm() {
+            ScheduledExecutorService scheduler = target.deadlines();
+            if (scheduler != null) {
+                long delay = context.route().timeout().toNanos() - (System.nanoTime() - startNanos);
+                try {
+                    deadline = scheduler.schedule(this::timeOut, Math.max(0, delay), TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException exception) {
+                    // The dispatcher was closed; the command still runs, just without its deadline.
+                    logger.debug("Deadline scheduler refused a deadline: route=%s, reason=%s",
+                            context.route().canonicalPath(), exception.getMessage());
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (settled.get()) {
+                    release();
+                    return;
+                }
+                worker = Thread.currentThread();
+            }
+            try {
+                lap(sample, PipelineStage.QUEUE);
+                CommandResult result = scope.run(() -> target.plan().execute(context, sample));
+                logger.trace("Pipeline finished: route=%s, status=%s", context.route().canonicalPath(), result.status());
+                if (sample != null && !settled.get()) {
+                    target.instruments().record(sample);
+                }
+                settle(result);
+            } catch (RuntimeException exception) {
+                if (settled.get()) {
+                    logger.debug("Timed-out command ended: route=%s, error=%s", context.route().canonicalPath(), exception);
+                    return;
+                }
+                logger.warn("Pipeline runtime error for route: " + context.route().canonicalPath(), exception);
+                settle(runtimeErrorResult(context, exception));
+            } catch (Throwable throwable) {
+                if (settle() && completion != null) {
+                    completion.completeExceptionally(throwable);
+                }
+                throw throwable;
+            } finally {
+                boolean deadlineInterrupted;
+                synchronized (this) {
+                    worker = null;
+                    deadlineInterrupted = interrupted;
+                }
+                scope.close();
+                release();
+                if (deadlineInterrupted) {
+                    // Drop the deadline's interrupt so it does not leak into the executor's thread.
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        /** Settles a command a bulkhead dropped after accepting it. */
+        private void reject() {
+            release();
+            if (settle()) {
+                complete(completion, finish(target, messenger.serverBusy(context), startNanos));
+            }
+        }
+
+        private void timeOut() {
+            if (!settle()) {
+                return;
+            }
+            scope.cancel();
+            synchronized (this) {
+                if (worker == caller) {
+                    // Running on the dispatching thread, e.g. through a direct executor:
+                    // settle at the deadline but never interrupt the caller.
+                    logger.debug("Deadline left the dispatching thread running: route=%s, timeout=%s", context.route().canonicalPath(), context.route().timeout());
+                } else if (worker != null) {
+                    interrupted = true;
+                    worker.interrupt();
+                } else {
+                    // Still queued: the command holds nothing but its permit.
+                    release();
+                }
+            }
+            Duration timeout = context.route().timeout();
+            logger.debug("Command timed out: route=%s, timeout=%s", context.route().canonicalPath(), timeout);
+            complete(completion, finish(target, messenger.timedOut(context, timeout), startNanos));
+        }
+
+        private void settle(CommandResult result) {
+            if (settle()) {
+                complete(completion, finish(target, result, startNanos));
+            }
+        }
+
+        /**
+         * Returns the in-flight permit once the command no longer holds a
+         * thread or queue slot; safe to call more than once.
+         */
+        private void release() {
+            if (inFlight != null && released.compareAndSet(false, true)) {
+                inFlight.release(context.actor().uniqueId(), context.route().canonicalPath());
+            }
+        }
+
+        /** Claims the right to settle the command and stops its deadline. */
+        private boolean settle() {
+            if (!settled.compareAndSet(false, true)) {
+                return false;
+            }
+            ScheduledFuture<?> armed = deadline;
+            if (armed != null) {
+                armed.cancel(false);
+            }
+            return true;
+        }
+    }
+
+    private record BulkheadSpec(int maxConcurrency, int queueCapacity, RejectionPolicy policy) {
+    }
+
     public static final class Builder {
 
-        private final CommandRouteRegistry registry = new CommandRouteRegistry();
         private final List<CommandInterceptor> interceptors = new ArrayList<>();
         private RouteCooldownStore cooldownStore = new RouteCooldownStore();
         private DispatchThrottle throttle = new DispatchThrottle(30, Duration.ofSeconds(2));
@@ -236,6 +1063,16 @@ public final class CommandDispatcher {
         private CommandConfiguration configuration = CommandConfiguration.empty();
         private Executor asyncExecutor;
         private boolean useVirtualThreads = false;
+        private long resolutionCacheSize;
+        private final Map<String, BulkheadSpec> bulkheads = new LinkedHashMap<>();
+        private @Nullable ScheduledExecutorService deadlineScheduler;
+        private int maxInFlightPerActor;
+        private int mailboxDepth;
+        private double stageSampleRate;
+        private @Nullable Duration slowCommandBudget;
+        private int slowCommandSamples;
+        private Duration slowCommandSampleInterval = Duration.ZERO;
+        private int maxInFlightPerRoute;
 
         public Builder cooldownStore(RouteCooldownStore cooldownStore) {
             this.cooldownStore = Objects.requireNonNull(cooldownStore, "cooldownStore");
@@ -293,6 +1130,142 @@ public final class CommandDispatcher {
             return this;
         }
 
+        /**
+         * Puts a bounded {@link RouteResolutionCache} of the given size in
+         * front of route resolution. Disabled by default; zero disables it.
+         */
+        public Builder resolutionCache(long maximumSize) {
+            if (maximumSize < 0) {
+                throw new IllegalArgumentException("Invalid resolution cache size: expected zero or positive");
+            }
+            this.resolutionCacheSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Adds a named bulkhead for async routes that declare it with
+         * {@link CommandRoute.Builder#bulkhead(String)} or {@code @Async("name")}.
+         * It runs at most {@code maxConcurrency} of their commands at once on
+         * the async executor (virtual threads when none is set), queues up to
+         * {@code queueCapacity} more and applies {@code policy} beyond that.
+         * Rejected commands get {@link CommandMessageProvider#serverBusy} and
+         * {@link CommandStatus#BUSY}.
+         */
+        public Builder bulkhead(String name, int maxConcurrency, int queueCapacity, RejectionPolicy policy) {
+            String checkedName = Objects.requireNonNull(name, "name").trim();
+            if (checkedName.isEmpty()) {
+                throw new IllegalArgumentException("Invalid bulkhead name: expected non-blank");
+            }
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("Invalid max concurrency: expected at least one");
+            }
+            if (queueCapacity < 0) {
+                throw new IllegalArgumentException("Invalid queue capacity: expected zero or positive");
+            }
+            this.bulkheads.put(checkedName, new BulkheadSpec(maxConcurrency, queueCapacity, Objects.requireNonNull(policy, "policy")));
+            return this;
+        }
+
+        /**
+         * Sets the scheduler that enforces {@link CommandRoute#timeout()}
+         * deadlines. By default a single daemon thread is started the first
+         * time a route with a timeout is registered.
+         */
+        public Builder deadlineScheduler(ScheduledExecutorService scheduler) {
+            this.deadlineScheduler = Objects.requireNonNull(scheduler, "scheduler");
+            return this;
+        }
+
+        /**
+         * Caps the async commands running or queued at once for each actor
+         * and for each route; zero leaves that side unlimited. Commands over
+         * a cap get {@link CommandMessageProvider#tooManyInFlight} and
+         * {@link CommandStatus#IN_FLIGHT_LIMITED}, and are counted as
+         * {@code command.inflight.rejected} tagged with {@code limit}.
+         */
+        public Builder inFlightLimit(int maxPerActor, int maxPerRoute) {
+            if (maxPerActor < 0) {
+                throw new IllegalArgumentException("Invalid max in-flight per actor: expected zero or positive");
+            }
+            if (maxPerRoute < 0) {
+                throw new IllegalArgumentException("Invalid max in-flight per route: expected zero or positive");
+            }
+            this.maxInFlightPerActor = maxPerActor;
+            this.maxInFlightPerRoute = maxPerRoute;
+            return this;
+        }
+
+        /**
+         * Runs each actor's async commands one at a time, in submission
+         * order, through {@link ActorMailboxes} on the async executor (virtual
+         * threads when none is set); zero turns this off. An actor may have
+         * at most {@code maxDepth} commands waiting; beyond that they get
+         * {@link CommandMessageProvider#serverBusy} and
+         * {@link CommandStatus#BUSY}. Routes with a bulkhead keep running in
+         * their bulkhead.
+         */
+        public Builder actorMailboxes(int maxDepth) {
+            if (maxDepth < 0) {
+                throw new IllegalArgumentException("Invalid mailbox depth: expected zero or positive");
+            }
+            this.mailboxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * Times each {@link PipelineStage} of a random {@code sampleRate}
+         * share of resolved dispatches, from {@code 0} (off, the default) to
+         * {@code 1} (every dispatch), into {@code command.dispatch.stage}
+         * timers tagged with {@code route} and {@code stage}. The timers are
+         * bound when routes are registered; a sampled dispatch costs one
+         * {@link System#nanoTime()} call per stage.
+         */
+        public Builder stageTiming(double sampleRate) {
+            if (!(sampleRate >= 0 && sampleRate <= 1)) {
+                throw new IllegalArgumentException("Invalid stage sample rate: expected between 0 and 1");
+            }
+            this.stageSampleRate = sampleRate;
+            return this;
+        }
+
+        /**
+         * Watches synchronous commands that run longer than {@code budget}
+         * with a {@link SlowCommandWatchdog}, taking 3 stack samples 10
+         * milliseconds apart.
+         *
+         * @see #slowCommandWatchdog(Duration, int, Duration)
+         */
+        public Builder slowCommandWatchdog(Duration budget) {
+            return slowCommandWatchdog(budget, 3, Duration.ofMillis(10));
+        }
+
+        /**
+         * Watches synchronous commands with a {@link SlowCommandWatchdog}. A
+         * command still running after {@code budget} has the dispatching
+         * thread's stack sampled {@code samples} times, {@code sampleInterval}
+         * apart, from a daemon monitor thread, and is logged as a warning
+         * with its route, actor, elapsed time and hot frames, once per route.
+         * Off by default; when on, every synchronous dispatch schedules and
+         * cancels one monitor task.
+         */
+        public Builder slowCommandWatchdog(Duration budget, int samples, Duration sampleInterval) {
+            Objects.requireNonNull(budget, "budget");
+            Objects.requireNonNull(sampleInterval, "sampleInterval");
+            if (budget.isNegative() || budget.isZero()) {
+                throw new IllegalArgumentException("Invalid slow command budget: expected positive");
+            }
+            if (samples < 1) {
+                throw new IllegalArgumentException("Invalid stack samples: expected at least one");
+            }
+            if (sampleInterval.isNegative()) {
+                throw new IllegalArgumentException("Invalid sample interval: expected zero or positive");
+            }
+            this.slowCommandBudget = budget;
+            this.slowCommandSamples = samples;
+            this.slowCommandSampleInterval = sampleInterval;
+            return this;
+        }
+
         public Builder configuration(CommandConfiguration configuration) {
             this.configuration = Objects.requireNonNull(configuration, "configuration");
             return this;
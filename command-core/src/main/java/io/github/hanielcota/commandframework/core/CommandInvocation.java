@@ -0,0 +1,31 @@
+package io.github.hanielcota.commandframework.core;
+
+import io.github.hanielcota.commandframework.core.route.CommandLineTokens;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One command of a {@linkplain CommandDispatcher#dispatchBatch batch}: a label
+ * and its arguments, as {@link CommandDispatcher#dispatch(CommandActor, String, List)}
+ * takes them.
+ */
+public record CommandInvocation(String label, List<String> arguments) {
+
+    public CommandInvocation {
+        Objects.requireNonNull(label, "label");
+        arguments = ArgumentView.immutable(Objects.requireNonNull(arguments, "arguments"));
+    }
+
+    /**
+     * Splits a raw command line such as {@code "kit give Steve"} into an
+     * invocation, tokenized like {@link CommandDispatcher#dispatch(CommandActor, CharSequence)}.
+     */
+    public static CommandInvocation parse(CharSequence commandLine) {
+        Objects.requireNonNull(commandLine, "commandLine");
+        CommandLineTokens tokens = CommandLineTokens.tokenize(commandLine.toString());
+        if (tokens.isEmpty()) {
+            return new CommandInvocation("", tokens);
+        }
+        return new CommandInvocation(tokens.get(0), tokens.subList(1, tokens.size()));
+    }
+}
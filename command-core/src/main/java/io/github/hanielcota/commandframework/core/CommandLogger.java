@@ -1,5 +1,6 @@
 package io.github.hanielcota.commandframework.core;
 
+import java.util.function.Supplier;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -7,25 +8,93 @@ import org.jspecify.annotations.Nullable;
  *
  * <p>Adapters should bridge this to the platform logger (Bukkit
  * {@code java.util.logging.Logger}, Velocity {@code Logger}, SLF4J, etc.).</p>
+ *
+ * <p>The framework checks {@link #isTraceEnabled()} and
+ * {@link #isDebugEnabled()} before building a message, so a disabled level
+ * costs one branch per call site. Bridges should override both checks to
+ * reflect the platform logger's level; they default to {@code true} so
+ * existing implementations keep receiving every message.</p>
  */
 public interface CommandLogger {
 
+    /** Whether trace messages are logged. */
+    default boolean isTraceEnabled() {
+        return true;
+    }
+
+    /** Whether debug messages are logged. */
+    default boolean isDebugEnabled() {
+        return true;
+    }
+
     /** Logs a trace message (very verbose, usually disabled in production). */
     default void trace(String message) {
         // no-op by default so existing implementations don't break
     }
 
+    /** Logs a trace message built only when trace is enabled. */
+    default void trace(Supplier<String> message) {
+        if (isTraceEnabled()) {
+            trace(message.get());
+        }
+    }
+
+    /** Logs a trace message formatted with {@link String#formatted} only when trace is enabled. */
+    default void trace(String format, @Nullable Object first, @Nullable Object second) {
+        if (isTraceEnabled()) {
+            trace(format.formatted(first, second));
+        }
+    }
+
+    /** Logs a trace message formatted with {@link String#formatted} only when trace is enabled. */
+    default void trace(String format, @Nullable Object first, @Nullable Object second, @Nullable Object third) {
+        if (isTraceEnabled()) {
+            trace(format.formatted(first, second, third));
+        }
+    }
+
     /** Logs a debug message (useful for development). */
     default void debug(String message) {
         // no-op by default so existing implementations don't break
     }
 
+    /** Logs a debug message built only when debug is enabled. */
+    default void debug(Supplier<String> message) {
+        if (isDebugEnabled()) {
+            debug(message.get());
+        }
+    }
+
+    /** Logs a debug message formatted with {@link String#formatted} only when debug is enabled. */
+    default void debug(String format, @Nullable Object first, @Nullable Object second) {
+        if (isDebugEnabled()) {
+            debug(format.formatted(first, second));
+        }
+    }
+
+    /** Logs a debug message formatted with {@link String#formatted} only when debug is enabled. */
+    default void debug(String format, @Nullable Object first, @Nullable Object second, @Nullable Object third) {
+        if (isDebugEnabled()) {
+            debug(format.formatted(first, second, third));
+        }
+    }
+
     /** Logs a warning together with an optional stack trace. */
     void warn(String message, @Nullable Throwable throwable);
 
     /** Returns a logger that discards all output. */
     static CommandLogger noop() {
         return new CommandLogger() {
+            @Override
+            public boolean isTraceEnabled() {
+                return false;
+            }
+
+            @Override
+            public boolean isDebugEnabled() {
+                return false;
+            }
+
             @Override
             public void trace(String message) {}
 
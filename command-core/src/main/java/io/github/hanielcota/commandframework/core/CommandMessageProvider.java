@@ -1,6 +1,7 @@
 package io.github.hanielcota.commandframework.core;
 
 import java.time.Duration;
+import java.util.List;
 
 /**
  * Provides human-readable messages for every dispatch outcome.
@@ -13,6 +14,18 @@ public interface CommandMessageProvider {
 
     String unknownCommand(String label);
 
+    /**
+     * Message for an unknown command with the closest registered commands.
+     *
+     * <p>The default ignores the corrections and delegates to
+     * {@link #unknownCommand(String)}.</p>
+     *
+     * @param corrections full command paths such as {@code "kit give"}; may be empty
+     */
+    default String unknownCommand(String label, List<String> corrections) {
+        return unknownCommand(label);
+    }
+
     String noPermission(CommandContext context, String permission);
 
     String invalidSender(CommandContext context, SenderRequirement expected);
@@ -28,4 +41,35 @@ public interface CommandMessageProvider {
     String invalidInput(CommandActor actor, String invalidValue, String expectedValue);
 
     String internalError(CommandContext context);
+
+    /**
+     * Message for an async command rejected because its bulkhead is full.
+     *
+     * <p>The default is a generic English message so existing providers keep
+     * compiling.</p>
+     */
+    default String serverBusy(CommandContext context) {
+        return "The server is busy. Please try again in a moment.";
+    }
+
+    /**
+     * Message for an async command refused because the actor or route
+     * already has as many commands in flight as allowed.
+     *
+     * <p>The default is a generic English message so existing providers keep
+     * compiling.</p>
+     */
+    default String tooManyInFlight(CommandContext context) {
+        return "You have too many commands running. Please wait for them to finish.";
+    }
+
+    /**
+     * Message for an async command cancelled because it passed its deadline.
+     *
+     * <p>The default is a generic English message so existing providers keep
+     * compiling.</p>
+     */
+    default String timedOut(CommandContext context, Duration timeout) {
+        return "The command took too long and was cancelled.";
+    }
 }
@@ -2,6 +2,7 @@ package io.github.hanielcota.commandframework.core;
 
 import io.github.hanielcota.commandframework.core.safety.ActorMessageDebouncer;
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -33,6 +34,14 @@ public final class CommandMessenger {
         return CommandResult.failure(CommandStatus.NOT_FOUND, label);
     }
 
+    public CommandResult unknownCommand(CommandActor actor, String label, List<String> corrections) {
+        Objects.requireNonNull(actor, "actor");
+        Objects.requireNonNull(label, "label");
+        Objects.requireNonNull(corrections, "corrections");
+        send(actor, messages.unknownCommand(label, corrections));
+        return CommandResult.failure(CommandStatus.NOT_FOUND, label);
+    }
+
     public CommandResult noPermission(CommandContext context) {
         Objects.requireNonNull(context, "context");
         String permission = context.route().permission();
@@ -82,6 +91,25 @@ public final class CommandMessenger {
         return CommandResult.failure(CommandStatus.INVALID_USAGE, invalidValue);
     }
 
+    public CommandResult serverBusy(CommandContext context) {
+        Objects.requireNonNull(context, "context");
+        send(context.actor(), messages.serverBusy(context));
+        return CommandResult.failure(CommandStatus.BUSY);
+    }
+
+    public CommandResult tooManyInFlight(CommandContext context) {
+        Objects.requireNonNull(context, "context");
+        send(context.actor(), messages.tooManyInFlight(context));
+        return CommandResult.failure(CommandStatus.IN_FLIGHT_LIMITED);
+    }
+
+    public CommandResult timedOut(CommandContext context, Duration timeout) {
+        Objects.requireNonNull(context, "context");
+        Objects.requireNonNull(timeout, "timeout");
+        send(context.actor(), messages.timedOut(context, timeout));
+        return CommandResult.failure(CommandStatus.TIMEOUT);
+    }
+
     public CommandResult internalError(CommandContext context) {
         Objects.requireNonNull(context, "context");
         send(context.actor(), messages.internalError(context));
@@ -1,6 +1,10 @@
 package io.github.hanielcota.commandframework.core;
 
-import java.util.Comparator;
+import io.github.hanielcota.commandframework.core.route.CommandLiteralNormalizer;
+import io.github.hanielcota.commandframework.core.route.LiteralBkTree;
+import io.github.hanielcota.commandframework.core.route.LiteralTable;
+import io.github.hanielcota.commandframework.core.route.SortedLiterals;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -10,8 +14,16 @@ import org.jspecify.annotations.Nullable;
 
 public final class CommandNode {
 
+    private static final CommandLiteralNormalizer NORMALIZER = new CommandLiteralNormalizer();
+    private static final Map<String, CommandNode> NO_CHILDREN = Map.of();
+
     private final String literal;
-    private final Map<String, CommandNode> children = new ConcurrentHashMap<>();
+    private volatile Map<String, CommandNode> children;
+    private final LiteralTable<CommandNode> frozenChildren;
+    private final boolean frozen;
+    private final int depth;
+    private volatile SortedLiterals childIndex;
+    private volatile @Nullable LiteralBkTree childTree;
     private volatile @Nullable CommandRoute route;
     private volatile @Nullable CommandRoute defaultRoute;
 
@@ -20,32 +32,111 @@ public final class CommandNode {
      * Setters are synchronized to enforce exclusive access during mutation.
      * Getters are not synchronized but are safe for concurrent reads due to volatile.
      * Registration/unregistration should happen during startup, not concurrently with reads.
+     *
+     * <p>Nodes returned by {@link #freeze()} are immutable and are what the
+     * {@link CommandRouteRegistry} publishes to readers.</p>
+     *
+     * <p>Memory layout: leaves share one empty child map until their first
+     * child is added. Frozen nodes drop the map entirely and keep their children
+     * in a {@link LiteralTable}, which stores narrow nodes as exactly-sized
+     * arrays and only hashes wide ones.</p>
      */
 
     public CommandNode(String literal) {
+        this(literal, NO_CHILDREN, LiteralTable.empty(), SortedLiterals.empty(), null, null, false, 0);
+    }
+
+    private CommandNode(
+            String literal,
+            Map<String, CommandNode> children,
+            LiteralTable<CommandNode> frozenChildren,
+            SortedLiterals childIndex,
+            @Nullable CommandRoute route,
+            @Nullable CommandRoute defaultRoute,
+            boolean frozen,
+            int depth) {
         this.literal = Objects.requireNonNull(literal, "literal");
+        this.children = children;
+        this.frozenChildren = frozenChildren;
+        this.childIndex = childIndex;
+        this.route = route;
+        this.defaultRoute = defaultRoute;
+        this.frozen = frozen;
+        this.depth = depth;
     }
 
     public String literal() {
         return literal;
     }
 
-    public CommandNode childOrCreate(String childLiteral) {
+    public synchronized CommandNode childOrCreate(String childLiteral) {
         Objects.requireNonNull(childLiteral, "childLiteral");
-        return children.computeIfAbsent(childLiteral, CommandNode::new);
+        requireMutable();
+        CommandNode existing = children.get(childLiteral);
+        if (existing != null) {
+            return existing;
+        }
+        CommandNode created = new CommandNode(childLiteral);
+        if (children == NO_CHILDREN) {
+            children = new ConcurrentHashMap<>();
+        }
+        children.put(childLiteral, created);
+        childIndex = SortedLiterals.of(children.keySet());
+        return created;
     }
 
+    /**
+     * Finds a child by literal, ignoring case and surrounding whitespace.
+     *
+     * @param childLiteral the raw or normalized literal
+     */
     public Optional<CommandNode> child(String childLiteral) {
         Objects.requireNonNull(childLiteral, "childLiteral");
-        return Optional.ofNullable(children.get(childLiteral));
+        return Optional.ofNullable(childOrNull(childLiteral));
     }
 
+    /**
+     * Allocation-free variant of {@link #child(String)} for the resolve path.
+     *
+     * <p>Frozen nodes look the raw token up in a case-folding
+     * {@link LiteralTable} without copying it.</p>
+     */
+    @Nullable CommandNode childOrNull(CharSequence childLiteral) {
+        if (frozen) {
+            return frozenChildren.get(childLiteral);
+        }
+        return children.get(NORMALIZER.normalize(childLiteral.toString()));
+    }
+
+    /**
+     * Returns the child literals starting with {@code prefix}, in natural order.
+     *
+     * <p>Backed by a sorted index that is rebuilt only when children change, so
+     * each call is two binary searches returning a read-only view.</p>
+     *
+     * @param prefix a normalized prefix; never {@code null}
+     */
     public List<String> childLiteralsStartingWith(String prefix) {
         Objects.requireNonNull(prefix, "prefix");
-        return children.keySet().stream()
-                .filter(value -> value.startsWith(prefix))
-                .sorted(Comparator.naturalOrder())
-                .toList();
+        return childIndex.startingWith(prefix);
+    }
+
+    /**
+     * Returns the typo index of the child literals.
+     *
+     * <p>Frozen nodes build it on first use and keep it; unpublished nodes
+     * build a fresh one on every call.</p>
+     */
+    LiteralBkTree childTree() {
+        if (!frozen) {
+            return LiteralBkTree.of(childIndex.all());
+        }
+        LiteralBkTree tree = childTree;
+        if (tree == null) {
+            tree = LiteralBkTree.of(childIndex.all());
+            childTree = tree;
+        }
+        return tree;
     }
 
     public Optional<CommandRoute> route() {
@@ -56,8 +147,17 @@ public final class CommandNode {
         return Optional.ofNullable(defaultRoute);
     }
 
+    @Nullable CommandRoute routeOrNull() {
+        return route;
+    }
+
+    @Nullable CommandRoute defaultRouteOrNull() {
+        return defaultRoute;
+    }
+
     public synchronized void setRoute(CommandRoute route) {
         CommandRoute checkedRoute = Objects.requireNonNull(route, "route");
+        requireMutable();
         if (this.route != null) {
             throw duplicateRoute(checkedRoute);
         }
@@ -66,6 +166,7 @@ public final class CommandNode {
 
     public synchronized void setDefaultRoute(CommandRoute route) {
         CommandRoute checkedRoute = Objects.requireNonNull(route, "route");
+        requireMutable();
         if (this.defaultRoute != null) {
             throw duplicateRoute(checkedRoute);
         }
@@ -73,20 +174,72 @@ public final class CommandNode {
     }
 
     public synchronized void clearRoute() {
+        requireMutable();
         this.route = null;
     }
 
     public synchronized void clearDefaultRoute() {
+        requireMutable();
         this.defaultRoute = null;
     }
 
     public synchronized boolean isEmpty() {
-        return route == null && defaultRoute == null && children.isEmpty();
+        return route == null && defaultRoute == null && children.isEmpty() && frozenChildren.isEmpty();
     }
 
-    public void removeChild(String childLiteral) {
+    public synchronized void removeChild(String childLiteral) {
         Objects.requireNonNull(childLiteral, "childLiteral");
-        children.remove(childLiteral);
+        requireMutable();
+        if (children != NO_CHILDREN && children.remove(childLiteral) != null) {
+            childIndex = SortedLiterals.of(children.keySet());
+        }
+    }
+
+    /**
+     * Returns the length of the longest literal path below this node, which
+     * bounds how many tokens a resolution from here can consume.
+     */
+    int depth() {
+        if (frozen) {
+            return depth;
+        }
+        int childDepth = 0;
+        for (CommandNode child : children.values()) {
+            childDepth = Math.max(childDepth, child.depth() + 1);
+        }
+        return childDepth;
+    }
+
+    /** Whether this node is an immutable, published copy. */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Returns an immutable deep copy of this node and its children.
+     *
+     * <p>Frozen nodes reject every mutation with {@link IllegalStateException}.
+     * Freezing an already frozen node returns the same instance.</p>
+     */
+    public synchronized CommandNode freeze() {
+        if (frozen) {
+            return this;
+        }
+        Map<String, CommandNode> copies = new HashMap<>(children.size());
+        int childDepth = 0;
+        for (Map.Entry<String, CommandNode> entry : children.entrySet()) {
+            CommandNode copy = entry.getValue().freeze();
+            copies.put(entry.getKey(), copy);
+            childDepth = Math.max(childDepth, copy.depth + 1);
+        }
+        return new CommandNode(
+                literal, NO_CHILDREN, LiteralTable.of(copies), childIndex, route, defaultRoute, true, childDepth);
+    }
+
+    private void requireMutable() {
+        if (frozen) {
+            throw new IllegalStateException("Invalid node mutation for '" + literal + "': expected unpublished node");
+        }
     }
 
     private RouteConfigurationException duplicateRoute(CommandRoute route) {
@@ -31,6 +31,11 @@ public record CommandParameter<T>(
         return resolver.resolve(context);
     }
 
+    /** Delegates to the underlying {@link ParameterResolver}. */
+    public ParseResult<T> resolve(ParameterParseCursor cursor) {
+        return resolver.resolve(cursor);
+    }
+
     /** Delegates to the underlying {@link ParameterResolver}. */
     public List<String> suggest(ParameterSuggestionContext context) {
         return resolver.suggest(context);
@@ -13,7 +13,7 @@ public record CommandRoot(String label, Set<String> aliases, CommandNode node) {
 
     public CommandRoot(String label, Set<String> aliases, CommandNode node) {
         this.label = Objects.requireNonNull(label, "label");
-        this.aliases = Collections.unmodifiableSet(new LinkedHashSet<>(aliases));
+        this.aliases = aliases.isEmpty() ? Set.of() : Collections.unmodifiableSet(new LinkedHashSet<>(aliases));
         this.node = Objects.requireNonNull(node, "node");
     }
 }
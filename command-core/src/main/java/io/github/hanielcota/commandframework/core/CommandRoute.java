@@ -3,8 +3,10 @@ package io.github.hanielcota.commandframework.core;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -24,25 +26,42 @@ public final class CommandRoute {
     private final SenderRequirement senderRequirement;
     private final Duration cooldown;
     private final List<CommandParameter<?>> parameters;
+    private final Map<String, Integer> parameterIndexes;
     private final CommandExecutor executor;
     private final String description;
     private final String syntax;
     private final List<CommandInterceptor> interceptors;
     private final boolean async;
+    private final String bulkhead;
+    private final Duration timeout;
 
     private CommandRoute(Builder builder) {
         this.root = builder.root;
-        this.aliases = Collections.unmodifiableSet(new LinkedHashSet<>(builder.aliases));
+        this.aliases = builder.aliases.isEmpty() ? Set.of() : Collections.unmodifiableSet(new LinkedHashSet<>(builder.aliases));
         this.path = List.copyOf(builder.path);
         this.permission = builder.permission;
         this.senderRequirement = builder.senderRequirement;
         this.cooldown = builder.cooldown;
         this.parameters = List.copyOf(builder.parameters);
+        this.parameterIndexes = indexByName(parameters);
         this.executor = builder.executor;
         this.description = builder.description;
         this.syntax = builder.syntax;
         this.interceptors = List.copyOf(builder.interceptors);
         this.async = builder.async;
+        this.bulkhead = builder.bulkhead;
+        this.timeout = builder.timeout;
+    }
+
+    private static Map<String, Integer> indexByName(List<CommandParameter<?>> parameters) {
+        if (parameters.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int index = 0; index < parameters.size(); index++) {
+            indexes.put(parameters.get(index).name(), index);
+        }
+        return Map.copyOf(indexes);
     }
 
     public static Builder builder(String root, CommandExecutor executor) {
@@ -77,6 +96,21 @@ public final class CommandRoute {
         return parameters;
     }
 
+    /**
+     * Returns the position of the parameter named {@code name} in
+     * {@link #parameters()}, or {@code -1} if there is none. A repeated name
+     * resolves to its last position.
+     */
+    public int parameterIndex(String name) {
+        Integer index = parameterIndexes.get(Objects.requireNonNull(name, "name"));
+        return index == null ? -1 : index;
+    }
+
+    /** Returns the number of distinct parameter names. */
+    int parameterNameCount() {
+        return parameterIndexes.size();
+    }
+
     public CommandExecutor executor() {
         return executor;
     }
@@ -108,6 +142,23 @@ public final class CommandRoute {
         return async;
     }
 
+    /**
+     * Returns the name of the bulkhead an async route runs in, or an empty
+     * string for the dispatcher's shared async executor.
+     */
+    public String bulkhead() {
+        return bulkhead;
+    }
+
+    /**
+     * Returns the deadline of an async route, measured from dispatch, or
+     * {@link Duration#ZERO} for none. The dispatcher only accepts a timeout on
+     * routes it hands off the dispatching thread.
+     */
+    public Duration timeout() {
+        return timeout;
+    }
+
     public String canonicalPath() {
         if (path.isEmpty()) {
             return root;
@@ -123,6 +174,10 @@ public final class CommandRoute {
         return !cooldown.isZero() && !cooldown.isNegative();
     }
 
+    public boolean hasTimeout() {
+        return !timeout.isZero();
+    }
+
     public static final class Builder {
 
         private final String root;
@@ -137,6 +192,8 @@ public final class CommandRoute {
         private String syntax = "";
         private final List<CommandInterceptor> interceptors = new ArrayList<>();
         private boolean async = false;
+        private String bulkhead = "";
+        private Duration timeout = Duration.ZERO;
 
         private Builder(String root, CommandExecutor executor) {
             this.root = Objects.requireNonNull(root, "root");
@@ -200,6 +257,24 @@ public final class CommandRoute {
             return this;
         }
 
+        /**
+         * Runs this async route in the named bulkhead configured on the
+         * dispatcher; empty for the shared async executor.
+         */
+        public Builder bulkhead(String bulkhead) {
+            this.bulkhead = Objects.requireNonNull(bulkhead, "bulkhead").trim();
+            return this;
+        }
+
+        public Builder timeout(Duration timeout) {
+            Objects.requireNonNull(timeout, "timeout");
+            if (timeout.isNegative()) {
+                throw new IllegalArgumentException("Invalid timeout: expected zero or positive duration");
+            }
+            this.timeout = timeout;
+            return this;
+        }
+
         public CommandRoute build() {
             CommandRouteValidator.validate(root, aliases, path, executor);
             CommandRouteValidator.validateGreedyPosition(parameters);
@@ -1,8 +1,12 @@
 package io.github.hanielcota.commandframework.core;
 
+import io.github.hanielcota.commandframework.core.route.CommandLineTokens;
 import io.github.hanielcota.commandframework.core.route.CommandLiteralNormalizer;
+import io.github.hanielcota.commandframework.core.route.LiteralBkTree;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -10,143 +14,482 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.jspecify.annotations.Nullable;
 
 public final class CommandRouteRegistry implements RouteResolver {
 
+    private static final int CORRECTION_LIMIT = 3;
+    private static final int CORRECTION_MAX_DISTANCE = 2;
+    private static final int SHORT_LITERAL_LENGTH = 4;
+    private static final int CORRECTION_VISIT_BUDGET = 256;
+
     private final CommandLiteralNormalizer normalizer = new CommandLiteralNormalizer();
     private final Map<String, CommandRoot> aliasToRoot = new ConcurrentHashMap<>();
     private final Map<String, CommandRoot> roots = new ConcurrentHashMap<>();
     private final Map<CommandRoute, CommandNode> routeToNode = new ConcurrentHashMap<>();
     private final Map<CommandRoute, Set<String>> routeToAliases = new ConcurrentHashMap<>();
+    private final Map<String, Integer> rootReferences = new ConcurrentHashMap<>();
+    private final Map<String, Integer> aliasReferences = new ConcurrentHashMap<>();
+    private final List<RouteRegistryListener> listeners = new CopyOnWriteArrayList<>();
+    private final ArrayDeque<RouteRegistryChange> pendingChanges = new ArrayDeque<>();
+    private final AtomicInteger undelivered = new AtomicInteger();
+    private final CommandLogger logger;
+    private volatile RouteSnapshot snapshot = RouteSnapshot.EMPTY;
 
-    public synchronized void register(CommandRoute route) {
-        CommandRoute checkedRoute = Objects.requireNonNull(route, "route");
-        String normalizedRoot = normalizer.normalize(checkedRoute.root());
-        CommandRoot root = rootFor(checkedRoute, normalizedRoot);
-        validateAliases(checkedRoute, root);
-        CommandNode node = registerPath(checkedRoute, root.node());
-        registerAliases(checkedRoute, root, normalizedRoot);
-        routeToNode.put(checkedRoute, node);
-        routeToAliases.put(checkedRoute, new LinkedHashSet<>(checkedRoute.aliases()));
+    /** Creates an empty registry whose listener failures are not logged. */
+    public CommandRouteRegistry() {
+        this(CommandLogger.noop());
     }
 
-    public synchronized void unregister(CommandRoute route) {
-        CommandRoute checkedRoute = Objects.requireNonNull(route, "route");
-        CommandNode node = routeToNode.remove(checkedRoute);
-        if (node == null) {
+    /**
+     * Creates an empty registry.
+     *
+     * @param logger where listeners that throw are reported; never {@code null}
+     */
+    public CommandRouteRegistry(CommandLogger logger) {
+        this.logger = Objects.requireNonNull(logger, "logger");
+    }
+
+    public void register(CommandRoute route) {
+        update(List.of(), List.of(Objects.requireNonNull(route, "route")));
+    }
+
+    public void unregister(CommandRoute route) {
+        update(List.of(Objects.requireNonNull(route, "route")), List.of());
+    }
+
+    /**
+     * Registers every route as one change.
+     *
+     * @see #update(Collection, Collection)
+     */
+    public void registerAll(Collection<CommandRoute> routes) {
+        update(List.of(), routes);
+    }
+
+    /**
+     * Unregisters every route as one change. Routes that are not registered
+     * are ignored.
+     *
+     * @see #update(Collection, Collection)
+     */
+    public void unregisterAll(Collection<CommandRoute> routes) {
+        update(routes, List.of());
+    }
+
+    /**
+     * Removes and then registers routes as a single change.
+     *
+     * <p>Aliases and roots are reconciled once per batch rather than once per
+     * route, and readers see one new snapshot when the whole batch is applied.
+     * If any registration is rejected, the batch is rolled back, the previous
+     * snapshot stays published and the {@link RouteConfigurationException} is
+     * rethrown.</p>
+     *
+     * <p>Listeners are notified after the registry lock is released, one
+     * change at a time in generation order. The calling thread delivers the
+     * change unless another thread, or a listener further up its own stack, is
+     * already delivering an earlier one; that delivery then carries on with
+     * this change, so a listener may register routes without deadlocking.</p>
+     *
+     * @param removals      routes to unregister first; unknown routes are ignored
+     * @param registrations routes to register afterwards
+     */
+    public void update(Collection<CommandRoute> removals, Collection<CommandRoute> registrations) {
+        if (apply(removals, registrations)) {
+            deliverPendingChanges();
+        }
+    }
+
+    private synchronized boolean apply(Collection<CommandRoute> removals, Collection<CommandRoute> registrations) {
+        List<CommandRoute> checkedRemovals = checkedRoutes(removals, "removals");
+        List<CommandRoute> checkedRegistrations = checkedRoutes(registrations, "registrations");
+        Set<String> touchedRoots = new HashSet<>();
+        List<CommandRoute> removed = detachAll(checkedRemovals, touchedRoots);
+        reconcileRoots(touchedRoots);
+        List<CommandRoute> added = new ArrayList<>(checkedRegistrations.size());
+        try {
+            for (CommandRoute route : checkedRegistrations) {
+                attach(route, touchedRoots);
+                added.add(route);
+            }
+        } catch (RuntimeException exception) {
+            rollback(added, removed, touchedRoots);
+            throw exception;
+        }
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            RouteSnapshot previous = snapshot;
+            publish(touchedRoots);
+            if (!listeners.isEmpty()) {
+                return pendingChanges.add(describe(previous, snapshot, touchedRoots, added, removed));
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of changes published so far.
+     *
+     * <p>The generation starts at zero and grows by one with every published
+     * change, so a cache can store it and compare it later instead of
+     * listening for changes.</p>
+     */
+    public long generation() {
+        return snapshot.generation();
+    }
+
+    /**
+     * Adds a listener notified after every published change, outside the
+     * registry lock and in generation order. A listener that throws is logged
+     * and the remaining listeners are still notified.
+     *
+     * @param listener the listener; never {@code null}
+     */
+    public void addListener(RouteRegistryListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener"));
+    }
+
+    /** Removes a listener added with {@link #addListener(RouteRegistryListener)}. */
+    public void removeListener(RouteRegistryListener listener) {
+        listeners.remove(Objects.requireNonNull(listener, "listener"));
+    }
+
+    private void deliverPendingChanges() {
+        // Only one thread drains at a time, so listeners see changes in the order they were queued.
+        if (undelivered.getAndIncrement() != 0) {
             return;
         }
+        int claimed = 1;
+        do {
+            RouteRegistryChange change;
+            while ((change = nextPendingChange()) != null) {
+                notifyListeners(change);
+            }
+            claimed = undelivered.addAndGet(-claimed);
+        } while (claimed != 0);
+    }
+
+    private synchronized @Nullable RouteRegistryChange nextPendingChange() {
+        return pendingChanges.poll();
+    }
+
+    private void notifyListeners(RouteRegistryChange change) {
+        // The change is already published, so a failing listener must neither undo it for the caller nor starve the rest.
+        for (RouteRegistryListener listener : listeners) {
+            try {
+                listener.onChange(change);
+            } catch (RuntimeException exception) {
+                logger.warn("Route registry listener failed: listener=" + listener.getClass().getName()
+                        + ", generation=" + change.generation(), exception);
+            }
+        }
+    }
+
+    private RouteRegistryChange describe(
+            RouteSnapshot previous,
+            RouteSnapshot current,
+            Set<String> touchedRoots,
+            List<CommandRoute> added,
+            List<CommandRoute> removed) {
+        List<CommandRoot> addedRoots = new ArrayList<>();
+        List<CommandRoot> updatedRoots = new ArrayList<>();
+        List<CommandRoot> removedRoots = new ArrayList<>();
+        Set<String> addedAliases = new HashSet<>();
+        Set<String> removedAliases = new HashSet<>();
+        for (String normalizedRoot : touchedRoots) {
+            CommandRoot before = rootNamed(previous, normalizedRoot);
+            CommandRoot after = rootNamed(current, normalizedRoot);
+            if (before == after) {
+                continue;
+            }
+            Set<String> aliasesBefore = before == null ? Set.of() : normalizedAliases(before.aliases());
+            Set<String> aliasesAfter = after == null ? Set.of() : normalizedAliases(after.aliases());
+            aliasesAfter.stream().filter(alias -> !aliasesBefore.contains(alias)).forEach(addedAliases::add);
+            aliasesBefore.stream().filter(alias -> !aliasesAfter.contains(alias)).forEach(removedAliases::add);
+            if (before == null) {
+                addedRoots.add(after);
+            } else if (after == null) {
+                removedRoots.add(before);
+            } else {
+                updatedRoots.add(after);
+            }
+        }
+        return new RouteRegistryChange(
+                current.generation(), added, removed, addedRoots, updatedRoots, removedRoots, addedAliases, removedAliases);
+    }
+
+    private @Nullable CommandRoot rootNamed(RouteSnapshot source, String normalizedRoot) {
+        CommandRoot root = source.root(normalizedRoot);
+        if (root == null || !normalizer.normalize(root.label()).equals(normalizedRoot)) {
+            return null;
+        }
+        return root;
+    }
+
+    private static List<CommandRoute> checkedRoutes(Collection<CommandRoute> routes, String name) {
+        Objects.requireNonNull(routes, name);
+        List<CommandRoute> checked = new ArrayList<>(routes.size());
+        for (CommandRoute route : routes) {
+            checked.add(Objects.requireNonNull(route, "route"));
+        }
+        return checked;
+    }
+
+    private void rollback(List<CommandRoute> added, List<CommandRoute> removed, Set<String> touchedRoots) {
+        detachAll(added, touchedRoots);
+        reconcileRoots(touchedRoots);
+        for (CommandRoute route : removed) {
+            attach(route, touchedRoots);
+        }
+    }
+
+    private void publish(Set<String> changedRoots) {
+        snapshot = snapshot.update(roots, aliasToRoot, changedRoots);
+    }
+
+    private void attach(CommandRoute route, Set<String> touchedRoots) {
+        String normalizedRoot = normalizer.normalize(route.root());
+        touchedRoots.add(normalizedRoot);
+        try {
+            CommandRoot root = rootFor(route, normalizedRoot);
+            validateAliases(route, root);
+            CommandNode node = registerPath(route, root.node());
+            registerAliases(route, root, normalizedRoot);
+            routeToNode.put(route, node);
+            routeToAliases.put(route, route.aliases());
+            retain(normalizedRoot, route);
+        } catch (RuntimeException exception) {
+            pruneEmptyNodes(route);
+            reconcileRoots(touchedRoots);
+            throw exception;
+        }
+    }
+
+    private List<CommandRoute> detachAll(List<CommandRoute> routes, Set<String> touchedRoots) {
+        List<CommandRoute> detached = new ArrayList<>(routes.size());
+        for (CommandRoute route : routes) {
+            if (detach(route)) {
+                touchedRoots.add(normalizer.normalize(route.root()));
+                detached.add(route);
+            }
+        }
+        return detached;
+    }
+
+    private boolean detach(CommandRoute route) {
+        CommandNode node = routeToNode.remove(route);
+        if (node == null) {
+            return false;
+        }
         node.defaultRoute().ifPresent(dr -> {
-            if (dr == checkedRoute) {
+            if (dr == route) {
                 node.clearDefaultRoute();
             }
         });
         node.route().ifPresent(r -> {
-            if (r == checkedRoute) {
+            if (r == route) {
                 node.clearRoute();
             }
         });
-        cleanupAliases(checkedRoute);
-        pruneEmptyNodes(checkedRoute);
+        release(normalizer.normalize(route.root()), route, routeToAliases.remove(route));
+        pruneEmptyNodes(route);
+        return true;
     }
 
-    private void cleanupAliases(CommandRoute route) {
-        Set<String> removedAliases = routeToAliases.remove(route);
-        if (removedAliases == null) {
-            return;
+    private void retain(String normalizedRoot, CommandRoute route) {
+        rootReferences.merge(normalizedRoot, 1, Integer::sum);
+        for (String alias : normalizedAliases(route.aliases())) {
+            aliasReferences.merge(alias, 1, Integer::sum);
         }
-        Set<String> remainingAliases = collectRemainingAliases();
-        Set<String> normalizedRemaining = new LinkedHashSet<>();
-        for (String alias : remainingAliases) {
-            normalizedRemaining.add(normalizer.normalize(alias));
+    }
+
+    private void release(String normalizedRoot, CommandRoute route, @Nullable Set<String> aliases) {
+        rootReferences.computeIfPresent(normalizedRoot, (key, count) -> count > 1 ? count - 1 : null);
+        for (String alias : normalizedAliases(aliases != null ? aliases : route.aliases())) {
+            aliasReferences.computeIfPresent(alias, (key, count) -> count > 1 ? count - 1 : null);
         }
-        String normalizedRoot = normalizer.normalize(route.root());
-        CommandRoot root = roots.get(normalizedRoot);
-        if (root == null) {
-            return;
+    }
+
+    private Set<String> normalizedAliases(Set<String> aliases) {
+        Set<String> normalized = new HashSet<>(aliases.size());
+        for (String alias : aliases) {
+            normalized.add(normalizer.normalize(alias));
         }
-        for (String alias : removedAliases) {
-            String normalized = normalizer.normalize(alias);
-            if (!normalizedRemaining.contains(normalized)) {
-                aliasToRoot.remove(normalized);
+        return normalized;
+    }
+
+    /**
+     * Drops the released aliases of every touched root and the roots no route
+     * references any more. Reads only the reference counts, never other routes.
+     */
+    private void reconcileRoots(Set<String> touchedRoots) {
+        for (String normalizedRoot : touchedRoots) {
+            CommandRoot root = roots.get(normalizedRoot);
+            if (root != null) {
+                reconcileRoot(normalizedRoot, root);
+            }
+        }
+    }
+
+    private void reconcileRoot(String normalizedRoot, CommandRoot root) {
+        if (!rootReferences.containsKey(normalizedRoot)) {
+            for (String alias : root.aliases()) {
+                aliasToRoot.remove(normalizer.normalize(alias), root);
             }
+            roots.remove(normalizedRoot);
+            aliasToRoot.remove(normalizedRoot, root);
+            return;
         }
         Set<String> kept = new LinkedHashSet<>();
         for (String alias : root.aliases()) {
-            if (normalizedRemaining.contains(normalizer.normalize(alias))) {
+            String normalized = normalizer.normalize(alias);
+            if (aliasReferences.containsKey(normalized)) {
                 kept.add(alias);
+            } else {
+                aliasToRoot.remove(normalized, root);
             }
         }
         if (!kept.equals(root.aliases())) {
-            CommandRoot updated = new CommandRoot(root.label(), kept, root.node());
-            roots.put(normalizedRoot, updated);
-            aliasToRoot.replaceAll((key, value) -> value == root ? updated : value);
-        }
-        if (!rootStillUsed(route.root())) {
-            roots.remove(normalizedRoot);
-            aliasToRoot.remove(normalizedRoot);
+            rebind(normalizedRoot, new CommandRoot(root.label(), kept, root.node()));
         }
     }
 
-    private Set<String> collectRemainingAliases() {
-        Set<String> all = new LinkedHashSet<>();
-        for (Set<String> aliases : routeToAliases.values()) {
-            all.addAll(aliases);
-        }
-        return all;
-    }
-
-    private boolean rootStillUsed(String rootLabel) {
-        String normalized = normalizer.normalize(rootLabel);
-        return routeToNode.keySet().stream().anyMatch(r -> normalizer.normalize(r.root()).equals(normalized));
-    }
-
     /**
- * Resolves a command route by label and arguments.
+     * Resolves a command route by label and arguments.
      *
      * <p><strong>Thread-safety:</strong> Registration ({@link #register}) and
-     * unregistration ({@link #unregister}) are synchronized. Resolution
-     * ({@link #resolve}) reads from concurrent maps and is safe to call from
-     * any thread. However, if routes are registered or unregistered concurrently
-     * with resolution, a transient {@link RouteResolution.NotFound} may occur.
-     * In practice, registration happens at startup and resolution at runtime,
-     * so contention is rare. Avoid registering or unregistering routes while
-     * the server is handling commands.</p>
+     * unregistration ({@link #unregister}) are synchronized and, once complete,
+     * publish an immutable snapshot of every root, alias and node through a
+     * single volatile reference. Resolution ({@link #resolve}) and the other
+     * read operations take no lock and always observe one consistent snapshot,
+     * so routes may be registered or unregistered while the server is handling
+     * commands.</p>
      */
     @Override
     public RouteResolution resolve(String label, List<String> arguments) {
         String checkedLabel = Objects.requireNonNull(label, "label");
         Objects.requireNonNull(arguments, "arguments");
-        List<String> checkedArguments = List.copyOf(arguments);
-        CommandRoot root = aliasToRoot.get(normalizer.normalize(checkedLabel));
+        CommandRoot root = snapshot.root(checkedLabel);
         if (root == null) {
             return RouteResolution.notFound(checkedLabel, "registered command");
         }
-        return findRoute(root, checkedArguments);
+        // The match outlives this call, so it must not share a list the caller can still modify.
+        return findRoute(root, ArgumentView.immutable(arguments));
+    }
+
+    /**
+     * Resolves a route into a caller-owned cursor without allocating.
+     *
+     * <p>This is the garbage-free variant of {@link #resolve(String, List)}:
+     * the walk is index-based, no {@link Optional} or match object is created,
+     * and the arguments are never copied. On success the cursor holds the
+     * matched route and the number of consumed literals; use
+     * {@link RouteCursor#remaining(List)} for the route's own arguments.</p>
+     *
+     * @param label     the root command label; never {@code null}
+     * @param arguments the argument tokens; never {@code null}
+     * @param cursor    the reusable cursor to fill; never {@code null}
+     * @return whether a route was found
+     */
+    public boolean resolve(String label, List<String> arguments, RouteCursor cursor) {
+        Objects.requireNonNull(label, "label");
+        Objects.requireNonNull(arguments, "arguments");
+        Objects.requireNonNull(cursor, "cursor");
+        return resolve(snapshot, label, arguments, cursor);
+    }
+
+    /** Returns the currently published snapshot. */
+    RouteSnapshot snapshot() {
+        return snapshot;
+    }
+
+    boolean resolve(RouteSnapshot current, CharSequence label, List<String> arguments, RouteCursor cursor) {
+        CommandRoot root = current.root(label);
+        if (root == null) {
+            cursor.clear();
+            return false;
+        }
+        walk(root.node(), arguments, cursor);
+        return cursor.isMatched();
     }
 
     @Override
     public List<CommandRoot> roots() {
-        return roots.values().stream()
-                .sorted(Comparator.comparing(CommandRoot::label))
-                .toList();
+        return snapshot.roots();
     }
 
     @Override
     public List<String> rootSuggestions(String prefix) {
+        return rootSuggestions(prefix, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns up to {@code limit} root labels and aliases starting with
+     * {@code prefix}, in natural order.
+     *
+     * <p>Answered from a sorted index rebuilt on registry changes, in
+     * {@code O(log n + k)}.</p>
+     */
+    @Override
+    public List<String> rootSuggestions(String prefix, int limit) {
         String checkedPrefix = Objects.requireNonNull(prefix, "prefix");
-        String normalizedPrefix = normalizer.normalize(checkedPrefix);
-        return aliasToRoot.keySet().stream()
-                .filter(label -> label.startsWith(normalizedPrefix))
-                .sorted(Comparator.naturalOrder())
-                .toList();
+        return snapshot.labels().startingWith(normalizer.normalize(checkedPrefix), limit);
+    }
+
+    /**
+     * Returns up to three registered commands within a small edit distance of
+     * the first unknown literal.
+     *
+     * <p>An unknown root label is matched against every root label and alias;
+     * otherwise the literals are walked as far as they resolve and the next
+     * token is matched against that node's children. Lookups run against
+     * BK-trees built lazily per snapshot and per published node, and each one
+     * compares at most {@value #CORRECTION_VISIT_BUDGET} literals.</p>
+     */
+    @Override
+    public List<String> corrections(String label, List<String> arguments) {
+        String checkedLabel = Objects.requireNonNull(label, "label");
+        Objects.requireNonNull(arguments, "arguments");
+        return corrections(snapshot, checkedLabel, arguments);
+    }
+
+    /** Suggests corrections from {@code current}, for callers that resolved against that snapshot. */
+    List<String> corrections(RouteSnapshot current, String checkedLabel, List<String> arguments) {
+        CommandRoot root = current.root(checkedLabel);
+        if (root == null) {
+            return nearest(current.labelTree(), normalizer.normalize(checkedLabel), "");
+        }
+        StringBuilder path = new StringBuilder(root.label());
+        CommandNode node = root.node();
+        for (String argument : arguments) {
+            CommandNode child = node.childOrNull(argument);
+            if (child == null) {
+                return nearest(node.childTree(), normalizer.normalize(argument), path.append(' ').toString());
+            }
+            path.append(' ').append(child.literal());
+            node = child;
+        }
+        return List.of();
+    }
+
+    private static List<String> nearest(LiteralBkTree tree, String literal, String prefix) {
+        if (literal.isEmpty()) {
+            return List.of();
+        }
+        int maxDistance = literal.length() <= SHORT_LITERAL_LENGTH ? 1 : CORRECTION_MAX_DISTANCE;
+        List<String> nearest = tree.nearest(literal, maxDistance, CORRECTION_LIMIT, CORRECTION_VISIT_BUDGET);
+        if (prefix.isEmpty()) {
+            return nearest;
+        }
+        return nearest.stream().map(prefix::concat).toList();
     }
 
     @Override
     public Optional<CommandRoot> root(String label) {
         String checkedLabel = Objects.requireNonNull(label, "label");
-        return Optional.ofNullable(aliasToRoot.get(normalizer.normalize(checkedLabel)));
+        return Optional.ofNullable(snapshot.root(checkedLabel));
     }
 
     private CommandRoot rootFor(CommandRoute route, String normalizedRoot) {
@@ -190,9 +533,15 @@ public final class CommandRouteRegistry implements RouteResolver {
         if (aliases.equals(root.aliases())) {
             return;
         }
-        CommandRoot updated = new CommandRoot(root.label(), aliases, root.node());
+        rebind(normalizedRoot, new CommandRoot(root.label(), aliases, root.node()));
+    }
+
+    private void rebind(String normalizedRoot, CommandRoot updated) {
         roots.put(normalizedRoot, updated);
-        aliasToRoot.replaceAll((key, value) -> value == root ? updated : value);
+        aliasToRoot.put(normalizedRoot, updated);
+        for (String alias : updated.aliases()) {
+            aliasToRoot.put(normalizer.normalize(alias), updated);
+        }
     }
 
     private void rejectAliasConflict(CommandRoute route, String alias, @Nullable CommandRoot existing, CommandRoot root) {
@@ -223,25 +572,28 @@ public final class CommandRouteRegistry implements RouteResolver {
     }
 
     private RouteResolution findRoute(CommandRoot root, List<String> arguments) {
-        RouteCursor cursor = walk(root.node(), arguments);
-        if (cursor.route().isPresent()) {
+        RouteCursor cursor = new RouteCursor();
+        walk(root.node(), arguments, cursor);
+        if (cursor.isMatched()) {
             return RouteResolution.found(cursor.toMatch(arguments));
         }
         return RouteResolution.notFound(root.label(), "registered subcommand");
     }
 
-    private RouteCursor walk(CommandNode rootNode, List<String> arguments) {
-        RouteCursor cursor = RouteCursor.fromDefault(rootNode);
+    private void walk(CommandNode rootNode, List<String> arguments, RouteCursor cursor) {
+        cursor.reset(rootNode);
         CommandNode current = rootNode;
+        @Nullable CommandLineTokens tokens = arguments instanceof CommandLineTokens lineTokens ? lineTokens : null;
         for (int index = 0; index < arguments.size(); index++) {
-            Optional<CommandNode> child = current.child(normalizer.normalize(arguments.get(index)));
-            if (child.isEmpty()) {
-                return cursor;
+            // Literals are matched on slices of tokenized input, never copied.
+            CharSequence literal = tokens != null ? tokens.token(index) : arguments.get(index);
+            CommandNode child = current.childOrNull(literal);
+            if (child == null) {
+                return;
             }
-            current = child.get();
-            cursor = cursor.next(current, index + 1);
+            current = child;
+            cursor.next(current, index + 1);
         }
-        return cursor;
     }
 
     private void pruneEmptyNodes(CommandRoute route) {
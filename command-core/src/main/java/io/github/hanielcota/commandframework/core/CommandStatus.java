@@ -12,6 +12,9 @@ public enum CommandStatus {
     INVALID_SENDER,
     COOLDOWN,
     RATE_LIMITED,
+    BUSY,
+    IN_FLIGHT_LIMITED,
+    TIMEOUT,
     INVALID_USAGE,
     ERROR
 }
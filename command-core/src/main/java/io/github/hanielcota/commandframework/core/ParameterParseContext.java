@@ -3,6 +3,16 @@ package io.github.hanielcota.commandframework.core;
 import java.util.List;
 import java.util.Objects;
 
+/**
+ * A resolver's view of one parameter: the dispatch, the parameter and the
+ * index of its first token.
+ *
+ * <p>Arguments that are already an immutable view, such as a
+ * {@link CommandContext}'s, are kept as they are; anything else is
+ * copied.</p>
+ *
+ * @see ParameterParseCursor
+ */
 public record ParameterParseContext(
         CommandContext commandContext,
         CommandParameter<?> parameter,
@@ -18,7 +28,7 @@ public record ParameterParseContext(
     ) {
         this.commandContext = Objects.requireNonNull(commandContext, "commandContext");
         this.parameter = Objects.requireNonNull(parameter, "parameter");
-        this.arguments = List.copyOf(arguments);
+        this.arguments = ArgumentView.immutable(Objects.requireNonNull(arguments, "arguments"));
         if (index < 0) {
             throw new IllegalArgumentException("Invalid argument index: expected zero or positive");
         }
@@ -0,0 +1,158 @@
+package io.github.hanielcota.commandframework.core;
+
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Reusable read position over a command's argument tokens.
+ *
+ * <p>The parser creates one cursor per dispatch and moves it from parameter to
+ * parameter, so every {@link ParameterResolver} reads the same token view
+ * without a context being built and the tokens being copied for each
+ * parameter. Resolvers only read the cursor; they report how many tokens they
+ * used through {@link ParseResult#consumedTokens()} and the parser advances
+ * it.</p>
+ *
+ * <p>A cursor belongs to one dispatch and is not thread-safe. Resolvers must
+ * not keep it after {@code resolve} returns.</p>
+ */
+public final class ParameterParseCursor {
+
+    private final CommandContext commandContext;
+    private List<String> arguments;
+    private @Nullable CommandParameter<?> parameter;
+    private int index;
+    private @Nullable List<String> substituted;
+    private int substitutedIndex;
+
+    /**
+     * Creates a cursor at the first argument of {@code commandContext}.
+     *
+     * @param commandContext the dispatch being parsed; never {@code null}
+     */
+    public ParameterParseCursor(CommandContext commandContext) {
+        this.commandContext = Objects.requireNonNull(commandContext, "commandContext");
+        this.arguments = commandContext.arguments();
+    }
+
+    private ParameterParseCursor(ParameterParseContext context) {
+        this.commandContext = context.commandContext();
+        this.arguments = context.arguments();
+        this.parameter = context.parameter();
+        this.index = context.index();
+    }
+
+    /** Returns a cursor positioned like {@code context}, for resolvers called through the context API. */
+    public static ParameterParseCursor of(ParameterParseContext context) {
+        return new ParameterParseCursor(Objects.requireNonNull(context, "context"));
+    }
+
+    /** The dispatch being parsed. */
+    public CommandContext commandContext() {
+        return commandContext;
+    }
+
+    /**
+     * The parameter being resolved.
+     *
+     * @throws IllegalStateException if the parser has not reached a parameter yet
+     */
+    public CommandParameter<?> parameter() {
+        CommandParameter<?> current = parameter;
+        if (current == null) {
+            throw new IllegalStateException("Invalid cursor access: expected a current parameter");
+        }
+        return current;
+    }
+
+    /** Every argument token of the dispatch, including those already consumed. */
+    public List<String> arguments() {
+        return arguments;
+    }
+
+    /** The index of the next unconsumed token. */
+    public int index() {
+        return index;
+    }
+
+    /** Whether a token is left to consume. */
+    public boolean hasNext() {
+        return index < arguments.size();
+    }
+
+    /** Returns the number of tokens left to consume. */
+    public int remaining() {
+        return Math.max(0, arguments.size() - index);
+    }
+
+    /**
+     * Returns the next unconsumed token without consuming it.
+     *
+     * @throws IndexOutOfBoundsException if no token is left
+     */
+    public String peek() {
+        return arguments.get(index);
+    }
+
+    /** Returns a view of the tokens left to consume; nothing is copied. */
+    public List<String> remainingArguments() {
+        return hasNext() ? ArgumentView.of(arguments, index) : List.of();
+    }
+
+    /**
+     * Returns a {@link ParameterParseContext} at the current position, for
+     * resolvers that only implement the context API. The context shares the
+     * cursor's tokens.
+     */
+    public ParameterParseContext toContext() {
+        return new ParameterParseContext(commandContext, parameter(), arguments, index);
+    }
+
+    /**
+     * Moves the cursor to {@code parameter}, keeping the token position.
+     * Called by the parser before each resolver runs.
+     */
+    public void at(CommandParameter<?> parameter) {
+        this.parameter = Objects.requireNonNull(parameter, "parameter");
+    }
+
+    /**
+     * Consumes {@code tokens} tokens. Called by the parser with each
+     * resolver's {@link ParseResult#consumedTokens()}.
+     */
+    public void advance(int tokens) {
+        if (tokens < 0) {
+            throw new IllegalArgumentException("Invalid consumed tokens: expected zero or positive");
+        }
+        index += tokens;
+    }
+
+    /**
+     * Makes {@code token} the only token until {@link #restore()}, so a
+     * resolver can parse a value the actor did not type, such as a default.
+     *
+     * @throws IllegalStateException if a token is already substituted
+     */
+    public void substitute(String token) {
+        Objects.requireNonNull(token, "token");
+        if (substituted != null) {
+            throw new IllegalStateException("Invalid substitution: expected no substituted token");
+        }
+        substituted = arguments;
+        substitutedIndex = index;
+        arguments = List.of(token);
+        index = 0;
+    }
+
+    /** Undoes {@link #substitute(String)}, returning to the dispatch's tokens. */
+    public void restore() {
+        List<String> original = substituted;
+        if (original == null) {
+            return;
+        }
+        arguments = original;
+        index = substitutedIndex;
+        substituted = null;
+    }
+}
@@ -26,6 +26,22 @@ public interface ParameterResolver<T> {
      */
     ParseResult<T> resolve(ParameterParseContext context);
 
+    /**
+     * Attempts to resolve the value at the cursor's position.
+     *
+     * <p>The parser calls this method with one cursor shared by every
+     * parameter of a dispatch. The default adapts it to
+     * {@link #resolve(ParameterParseContext)}, building one context for this
+     * parameter; resolvers on the dispatch path override it to read the
+     * cursor directly.</p>
+     *
+     * @param cursor the parse cursor; never {@code null}
+     * @return a successful or failed parse result; never {@code null}
+     */
+    default ParseResult<T> resolve(ParameterParseCursor cursor) {
+        return resolve(cursor.toContext());
+    }
+
     /**
      * Returns tab-completion suggestions for this parameter.
      *
@@ -0,0 +1,146 @@
+package io.github.hanielcota.commandframework.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The parsed parameters of one dispatch, stored by parameter position.
+ *
+ * <p>Values sit in an array indexed like {@link CommandRoute#parameters()};
+ * name lookups go through the route's {@link CommandRoute#parameterIndex}
+ * table, which is built once per route, so {@link #get(Object)} is one hash
+ * lookup and an array read. Instances never change: the context the
+ * dispatcher resolves shares the {@linkplain #empty() empty} instance, so
+ * resolving allocates nothing for parameters, and the execution stage
+ * attaches the parsed values by creating the context the interceptors and the
+ * executor see. All fields are final, so the values are safely visible to
+ * async routes on other threads.</p>
+ */
+public final class ParsedParameters extends AbstractMap<String, ParsedParameter<?>> {
+
+    private static final ParsedParameters EMPTY = new ParsedParameters(null, new ParsedParameter<?>[0]);
+
+    private final @Nullable CommandRoute route;
+    private final ParsedParameter<?>[] values;
+
+    private ParsedParameters(@Nullable CommandRoute route, ParsedParameter<?>[] values) {
+        this.route = route;
+        this.values = values;
+    }
+
+    /** Returns the shared instance for routes without parameters and for contexts not parsed yet. */
+    public static ParsedParameters empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns parameters of {@code route} holding {@code parsed}.
+     *
+     * @param parsed one value per route parameter, in declaration order
+     */
+    public static ParsedParameters of(CommandRoute route, List<ParsedParameter<?>> parsed) {
+        if (!matches(Objects.requireNonNull(route, "route"), Objects.requireNonNull(parsed, "parsed"))) {
+            throw new IllegalArgumentException("Invalid parsed parameters: expected one value per route parameter, in order");
+        }
+        if (parsed.isEmpty()) {
+            return EMPTY;
+        }
+        return new ParsedParameters(route, parsed.toArray(ParsedParameter<?>[]::new));
+    }
+
+    /** Whether {@code parsed} holds one value per parameter of {@code route}, in declaration order. */
+    static boolean matches(CommandRoute route, List<ParsedParameter<?>> parsed) {
+        List<CommandParameter<?>> parameters = route.parameters();
+        if (parsed.size() != parameters.size()) {
+            return false;
+        }
+        for (int index = 0; index < parameters.size(); index++) {
+            if (parsed.get(index).parameter() != parameters.get(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns the value of the parameter at {@code index}, or {@code null} before parsing. */
+    public @Nullable ParsedParameter<?> get(int index) {
+        if (index >= 0 && values.length == 0) {
+            return null;
+        }
+        Objects.checkIndex(index, values.length);
+        return values[index];
+    }
+
+    @Override
+    public @Nullable ParsedParameter<?> get(Object key) {
+        if (!(key instanceof String name) || route == null) {
+            return null;
+        }
+        int index = route.parameterIndex(name);
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return route != null ? route.parameterNameCount() : 0;
+    }
+
+    @Override
+    public Set<Entry<String, ParsedParameter<?>>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, ParsedParameter<?>>> iterator() {
+                return new Entries();
+            }
+
+            @Override
+            public int size() {
+                return ParsedParameters.this.size();
+            }
+        };
+    }
+
+    /** Iterates in declaration order; a repeated name yields only its last value, like {@link #get}. */
+    private final class Entries implements Iterator<Entry<String, ParsedParameter<?>>> {
+
+        private int next = advance(0);
+
+        @Override
+        public boolean hasNext() {
+            return next < values.length;
+        }
+
+        @Override
+        public Entry<String, ParsedParameter<?>> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ParsedParameter<?> value = values[next];
+            next = advance(next + 1);
+            return Map.entry(value.parameter().name(), value);
+        }
+
+        private int advance(int from) {
+            if (route == null) {
+                return values.length;
+            }
+            int index = from;
+            while (index < values.length && route.parameterIndex(route.parameters().get(index).name()) != index) {
+                index++;
+            }
+            return index;
+        }
+    }
+}
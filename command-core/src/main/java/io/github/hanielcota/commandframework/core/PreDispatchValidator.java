@@ -29,6 +29,16 @@ public final class PreDispatchValidator {
         return ValidationResult.valid(input.arguments());
     }
 
+    /** Claims one dispatch from the actor's throttle, returning whether it was allowed. */
+    public boolean claim(CommandActor actor) {
+        return throttle.claim(Objects.requireNonNull(actor, "actor").uniqueId()) == ThrottleDecision.ALLOWED;
+    }
+
+    /** Claims {@code dispatches} permits from the actor's throttle at once, returning how many were allowed. */
+    public int claim(CommandActor actor, int dispatches) {
+        return throttle.claim(Objects.requireNonNull(actor, "actor").uniqueId(), dispatches);
+    }
+
     public SanitizedInput sanitize(List<String> arguments) {
         return sanitizer.sanitize(Objects.requireNonNull(arguments, "arguments"));
     }
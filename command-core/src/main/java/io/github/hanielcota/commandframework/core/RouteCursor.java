@@ -1,6 +1,5 @@
 package io.github.hanielcota.commandframework.core;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -8,29 +7,93 @@ import org.jspecify.annotations.Nullable;
 
 /**
  * Tracks the current position while walking the command tree.
+ *
+ * <p>A cursor is mutable and index-based so one instance can be reused across
+ * resolutions: {@link CommandRouteRegistry#resolve(String, List, RouteCursor)}
+ * resets and fills it without allocating. A cursor is not thread-safe; keep
+ * one per thread.</p>
  */
-public record RouteCursor(@Nullable CommandRoute routeValue, int consumedLiterals) {
+public final class RouteCursor {
+
+    private @Nullable CommandRoute routeValue;
+    private int consumedLiterals;
 
     public static RouteCursor fromDefault(CommandNode rootNode) {
         Objects.requireNonNull(rootNode, "rootNode");
-        return new RouteCursor(rootNode.defaultRoute().orElse(null), 0);
+        RouteCursor cursor = new RouteCursor();
+        cursor.reset(rootNode);
+        return cursor;
     }
 
+    /**
+     * Moves the cursor back to the root node, matching its default route if any.
+     *
+     * @param rootNode the root node of the walk; never {@code null}
+     */
+    public void reset(CommandNode rootNode) {
+        Objects.requireNonNull(rootNode, "rootNode");
+        this.routeValue = rootNode.defaultRouteOrNull();
+        this.consumedLiterals = 0;
+    }
+
+    /** Clears the cursor so it matches nothing. */
+    public void clear() {
+        this.routeValue = null;
+        this.consumedLiterals = 0;
+    }
+
+    /** Sets the match directly, as replayed from a {@link RouteResolutionCache}. */
+    void set(@Nullable CommandRoute route, int consumedLiterals) {
+        this.routeValue = route;
+        this.consumedLiterals = consumedLiterals;
+    }
+
+    /**
+     * Advances to {@code node}, remembering its route if it has one.
+     *
+     * @return this cursor
+     */
     public RouteCursor next(CommandNode node, int consumedLiterals) {
         Objects.requireNonNull(node, "node");
-        return node.route()
-                .map(found -> new RouteCursor(found, consumedLiterals))
-                .orElse(this);
+        CommandRoute found = node.routeOrNull();
+        if (found != null) {
+            this.routeValue = found;
+            this.consumedLiterals = consumedLiterals;
+        }
+        return this;
+    }
+
+    /** Returns the deepest route matched so far, or {@code null}. */
+    public @Nullable CommandRoute routeValue() {
+        return routeValue;
+    }
+
+    /** Returns how many literal tokens the matched route consumed. */
+    public int consumedLiterals() {
+        return consumedLiterals;
+    }
+
+    /** Whether the walk matched a route. */
+    public boolean isMatched() {
+        return routeValue != null;
     }
 
     public Optional<CommandRoute> route() {
         return Optional.ofNullable(routeValue);
     }
 
+    /**
+     * Returns the arguments left after the consumed literals as a view over
+     * {@code arguments}.
+     */
+    public ArgumentView remaining(List<String> arguments) {
+        Objects.requireNonNull(arguments, "arguments");
+        return ArgumentView.of(arguments, consumedLiterals);
+    }
+
     public RouteMatch toMatch(List<String> arguments) {
         Objects.requireNonNull(arguments, "arguments");
         CommandRoute matchedRoute = Objects.requireNonNull(routeValue, "routeValue");
-        List<String> remaining = new ArrayList<>(arguments.subList(consumedLiterals, arguments.size()));
-        return new RouteMatch(matchedRoute, remaining, consumedLiterals);
+        return new RouteMatch(matchedRoute, remaining(arguments), consumedLiterals);
     }
 }
@@ -0,0 +1,74 @@
+package io.github.hanielcota.commandframework.core;
+
+import io.github.hanielcota.commandframework.core.metrics.CommandMetrics;
+import io.github.hanielcota.commandframework.core.pipeline.PipelineStage;
+import io.github.hanielcota.commandframework.core.pipeline.StageSample;
+import java.util.Locale;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Dispatch metrics of one registered route, bound when the route is
+ * registered: a {@code command.dispatch.duration} timer and one
+ * {@code command.dispatch} counter per {@link CommandStatus}, all tagged with
+ * the route's canonical path. With stage timing on, it also binds one
+ * {@code command.dispatch.stage} timer per {@link PipelineStage}, tagged with
+ * {@code stage} as well.
+ */
+final class RouteInstruments {
+
+    static final String DISPATCH = "command.dispatch";
+    static final String DURATION = "command.dispatch.duration";
+    static final String STAGE = "command.dispatch.stage";
+    private static final CommandStatus[] STATUSES = CommandStatus.values();
+    private static final PipelineStage[] STAGES = PipelineStage.values();
+
+    private final CommandMetrics.Timer duration;
+    private final CommandMetrics.Counter[] outcomes;
+    private final CommandMetrics.Timer @Nullable [] stages;
+
+    RouteInstruments(CommandMetrics metrics, String route) {
+        this(metrics, route, false);
+    }
+
+    RouteInstruments(CommandMetrics metrics, String route, boolean timesStages) {
+        Objects.requireNonNull(metrics, "metrics");
+        Objects.requireNonNull(route, "route");
+        this.duration = metrics.timer(DURATION, CommandMetrics.tags("route", route));
+        this.outcomes = new CommandMetrics.Counter[STATUSES.length];
+        for (CommandStatus status : STATUSES) {
+            outcomes[status.ordinal()] = metrics.counter(DISPATCH, CommandMetrics.tags("status", tag(status), "route", route));
+        }
+        if (timesStages) {
+            this.stages = new CommandMetrics.Timer[STAGES.length];
+            for (PipelineStage stage : STAGES) {
+                stages[stage.ordinal()] = metrics.timer(STAGE, CommandMetrics.tags("stage", stage.tag(), "route", route));
+            }
+        } else {
+            this.stages = null;
+        }
+    }
+
+    /** Returns the {@code status} tag value of {@code status}. */
+    static String tag(CommandStatus status) {
+        return status.name().toLowerCase(Locale.ROOT);
+    }
+
+    void record(CommandStatus status, long durationNanos) {
+        duration.record(durationNanos);
+        outcomes[status.ordinal()].increment();
+    }
+
+    /** Records the stages a sample reached; stages it never charged are skipped. */
+    void record(StageSample sample) {
+        if (stages == null) {
+            return;
+        }
+        for (PipelineStage stage : STAGES) {
+            long nanos = sample.nanos(stage);
+            if (nanos > 0) {
+                stages[stage.ordinal()].record(nanos);
+            }
+        }
+    }
+}
@@ -3,11 +3,20 @@ package io.github.hanielcota.commandframework.core;
 import java.util.List;
 import java.util.Objects;
 
+/**
+ * A resolved route together with the arguments left after its literals.
+ *
+ * <p>Arguments that nobody can modify any more, such as an
+ * {@link ArgumentView} over tokenized input, are kept as-is, so a match
+ * produced by the registry shares the tokens instead of copying them. Any
+ * other list is defensively copied and must not contain {@code null}.</p>
+ */
 public record RouteMatch(CommandRoute route, List<String> arguments, int consumedLiterals) {
 
     public RouteMatch(CommandRoute route, List<String> arguments, int consumedLiterals) {
         this.route = Objects.requireNonNull(route, "route");
-        this.arguments = List.copyOf(arguments);
+        Objects.requireNonNull(arguments, "arguments");
+        this.arguments = ArgumentView.immutable(arguments);
         if (consumedLiterals < 0) {
             throw new IllegalArgumentException("Invalid consumed literals: expected zero or positive");
         }
@@ -0,0 +1,43 @@
+package io.github.hanielcota.commandframework.core;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Describes one published change of a {@link CommandRouteRegistry}.
+ *
+ * <p>Roots are the published copies: removed roots as they were before the
+ * change, added and updated roots as they are after it. A root is updated when
+ * it existed before and after the change but its routes or aliases changed.
+ * Aliases are normalized.</p>
+ *
+ * @param generation    the registry generation this change produced
+ * @param addedRoutes   routes registered by the change
+ * @param removedRoutes routes unregistered by the change
+ * @param addedRoots    roots that did not exist before the change
+ * @param updatedRoots  roots that existed before and after the change
+ * @param removedRoots  roots that no longer exist
+ * @param addedAliases  aliases that now resolve
+ * @param removedAliases aliases that no longer resolve
+ */
+public record RouteRegistryChange(
+        long generation,
+        List<CommandRoute> addedRoutes,
+        List<CommandRoute> removedRoutes,
+        List<CommandRoot> addedRoots,
+        List<CommandRoot> updatedRoots,
+        List<CommandRoot> removedRoots,
+        Set<String> addedAliases,
+        Set<String> removedAliases) {
+
+    public RouteRegistryChange {
+        addedRoutes = List.copyOf(Objects.requireNonNull(addedRoutes, "addedRoutes"));
+        removedRoutes = List.copyOf(Objects.requireNonNull(removedRoutes, "removedRoutes"));
+        addedRoots = List.copyOf(Objects.requireNonNull(addedRoots, "addedRoots"));
+        updatedRoots = List.copyOf(Objects.requireNonNull(updatedRoots, "updatedRoots"));
+        removedRoots = List.copyOf(Objects.requireNonNull(removedRoots, "removedRoots"));
+        addedAliases = Set.copyOf(Objects.requireNonNull(addedAliases, "addedAliases"));
+        removedAliases = Set.copyOf(Objects.requireNonNull(removedAliases, "removedAliases"));
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.hanielcota.commandframework.core;
+
+/**
+ * Receives a description of every change published by a {@link CommandRouteRegistry}.
+ *
+ * <p>Listeners are called synchronously, in generation order, on the thread
+ * that changed the registry and after the new snapshot is visible to readers.
+ * They should return quickly and must not change the registry themselves. An
+ * exception thrown by a listener is logged by the registry and does not reach
+ * the caller that changed it.</p>
+ */
+@FunctionalInterface
+public interface RouteRegistryListener {
+
+    /**
+     * Called once per published change.
+     *
+     * @param change what changed; never {@code null}
+     */
+    void onChange(RouteRegistryChange change);
+}
@@ -0,0 +1,171 @@
+package io.github.hanielcota.commandframework.core;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.github.hanielcota.commandframework.core.metrics.CommandMetrics;
+import io.github.hanielcota.commandframework.core.route.CommandLiteralNormalizer;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded cache in front of {@link CommandRouteRegistry} resolution, evicting
+ * with Caffeine's W-TinyLFU policy.
+ *
+ * <p>Entries are keyed by the normalized label plus as many normalized
+ * argument tokens as the root's deepest literal path, which is the most a
+ * resolution can consume. Each token is length-prefixed in the key, so tokens
+ * that contain spaces cannot collide with split ones. Entries store the
+ * matched route and consumed-literal count, tagged with the registry
+ * generation they were resolved against; an entry from an older generation
+ * counts as a miss and is replaced. Only resolutions whose literals consumed
+ * every token of the key are cached, so a key never holds a parameter value:
+ * with {@code /tpa accept} and {@code /tpa <player>} registered,
+ * {@code /tpa accept} is cached and {@code /tpa Steve} is walked every time.
+ * Failed resolutions, unknown labels and unknown subcommands alike, are never
+ * cached either, so arbitrary input cannot push hot routes out of the
+ * cache.</p>
+ *
+ * <p>Hits, misses and stale entries, and evictions (through a Caffeine
+ * {@link StatsCounter} bridge) are reported to {@link CommandMetrics} as
+ * {@code command.resolution.cache} counters tagged with {@code result}, so the cache can be compared against the plain tree
+ * walk, which is allocation-free. Building a key allocates, so the cache only
+ * pays off for deep trees or very hot labels.</p>
+ */
+public final class RouteResolutionCache {
+
+    static final String METRIC = "command.resolution.cache";
+
+    private final CommandRouteRegistry registry;
+    private final CommandMetrics.Counter hits;
+    private final CommandMetrics.Counter misses;
+    private final CommandMetrics.Counter staleEntries;
+    private final CommandLiteralNormalizer normalizer = new CommandLiteralNormalizer();
+    private final Cache<String, Resolved> entries;
+
+    /**
+     * Creates a cache over {@code registry}.
+     *
+     * @param maximumSize the maximum number of cached prefixes, positive
+     * @param metrics     where cache statistics are reported
+     */
+    public RouteResolutionCache(CommandRouteRegistry registry, long maximumSize, CommandMetrics metrics) {
+        this.registry = Objects.requireNonNull(registry, "registry");
+        Objects.requireNonNull(metrics, "metrics");
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Invalid maximumSize: expected positive");
+        }
+        this.hits = metrics.counter(METRIC, CommandMetrics.tags("result", "hit"));
+        this.misses = metrics.counter(METRIC, CommandMetrics.tags("result", "miss"));
+        this.staleEntries = metrics.counter(METRIC, CommandMetrics.tags("result", "stale"));
+        MetricsStatsCounter stats = new MetricsStatsCounter(metrics);
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats(() -> stats)
+                .build();
+    }
+
+    /**
+     * Resolves through the cache into a caller-owned cursor.
+     *
+     * @see CommandRouteRegistry#resolve(String, List, RouteCursor)
+     */
+    public boolean resolve(String label, List<String> arguments, RouteCursor cursor) {
+        Objects.requireNonNull(label, "label");
+        Objects.requireNonNull(arguments, "arguments");
+        Objects.requireNonNull(cursor, "cursor");
+        RouteSnapshot snapshot = registry.snapshot();
+        CommandRoot root = snapshot.root(label);
+        if (root == null) {
+            cursor.clear();
+            return false;
+        }
+        int keyTokens = Math.min(root.node().depth(), arguments.size());
+        String key = key(label, arguments, keyTokens);
+        Resolved cached = entries.asMap().get(key);
+        if (cached != null && cached.generation() == snapshot.generation()) {
+            hits.increment();
+            cursor.set(cached.route(), cached.consumedLiterals());
+            return cursor.isMatched();
+        }
+        (cached == null ? misses : staleEntries).increment();
+        boolean matched = registry.resolve(snapshot, label, arguments, cursor);
+        CommandRoute route = cursor.routeValue();
+        if (matched && route != null && cursor.consumedLiterals() == keyTokens) {
+            entries.put(key, new Resolved(snapshot.generation(), route, keyTokens));
+        } else if (cached != null) {
+            entries.asMap().remove(key, cached);
+        }
+        return matched;
+    }
+
+    /** Drops every cached entry. */
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    /** Returns the approximate number of cached entries. */
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    private String key(String label, List<String> arguments, int literals) {
+        StringBuilder key = new StringBuilder();
+        append(key, normalizer.normalize(label));
+        for (int index = 0; index < literals; index++) {
+            append(key, normalizer.normalize(arguments.get(index)));
+        }
+        return key.toString();
+    }
+
+    private static void append(StringBuilder key, String token) {
+        key.append(token.length()).append(':').append(token);
+    }
+
+    private record Resolved(long generation, CommandRoute route, int consumedLiterals) {
+    }
+
+    /** Reports evictions; hits and misses are counted by {@link #resolve}, which tells stale entries apart. */
+    private static final class MetricsStatsCounter implements StatsCounter {
+
+        private final Map<RemovalCause, CommandMetrics.Counter> evictions = new EnumMap<>(RemovalCause.class);
+
+        private MetricsStatsCounter(CommandMetrics metrics) {
+            for (RemovalCause cause : RemovalCause.values()) {
+                evictions.put(cause, metrics.counter(METRIC, CommandMetrics.tags(
+                        "result", "eviction", "cause", cause.name().toLowerCase(Locale.ROOT))));
+            }
+        }
+
+        @Override
+        public void recordHits(int count) {
+        }
+
+        @Override
+        public void recordMisses(int count) {
+        }
+
+        @Override
+        public void recordLoadSuccess(long loadTime) {
+        }
+
+        @Override
+        public void recordLoadFailure(long loadTime) {
+        }
+
+        @Override
+        public void recordEviction(int weight, RemovalCause cause) {
+            evictions.get(cause).increment();
+        }
+
+        @Override
+        public CacheStats snapshot() {
+            return CacheStats.empty();
+        }
+    }
+}
@@ -31,6 +31,34 @@ public interface RouteResolver {
      */
     List<String> rootSuggestions(String prefix);
 
+    /**
+     * Returns at most {@code limit} root labels that start with the given prefix.
+     *
+     * @param prefix the prefix to filter by; never {@code null}
+     * @param limit  the maximum number of labels, zero or positive
+     */
+    default List<String> rootSuggestions(String prefix, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Invalid limit: expected zero or positive");
+        }
+        List<String> suggestions = rootSuggestions(prefix);
+        return suggestions.subList(0, Math.min(limit, suggestions.size()));
+    }
+
+    /**
+     * Returns the closest registered commands to a label and arguments that
+     * did not resolve, for "did you mean" hints.
+     *
+     * <p>Each entry is a full command path such as {@code "kit give"}. The
+     * default implementation returns no corrections.</p>
+     *
+     * @param label     the root command label; never {@code null}
+     * @param arguments the argument tokens; never {@code null}
+     */
+    default List<String> corrections(String label, List<String> arguments) {
+        return List.of();
+    }
+
     /**
      * Finds a root by its label or alias.
      *
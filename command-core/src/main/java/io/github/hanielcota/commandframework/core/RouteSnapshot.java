@@ -0,0 +1,121 @@
+package io.github.hanielcota.commandframework.core;
+
+import io.github.hanielcota.commandframework.core.route.LiteralBkTree;
+import io.github.hanielcota.commandframework.core.route.LiteralTable;
+import io.github.hanielcota.commandframework.core.route.SortedLiterals;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable, read-optimized view of every registered root, alias and node.
+ *
+ * <p>The {@link CommandRouteRegistry} rebuilds a snapshot after each mutation
+ * and publishes it through a single volatile reference, so readers always see
+ * one consistent tree without taking a lock.</p>
+ */
+final class RouteSnapshot {
+
+    static final RouteSnapshot EMPTY = new RouteSnapshot(
+            LiteralTable.empty(), SortedLiterals.empty(), List.of(), Map.of(), 0);
+
+    private final LiteralTable<CommandRoot> labelToRoot;
+    private final SortedLiterals labels;
+    private final List<CommandRoot> roots;
+    private final Map<CommandNode, CommandRoot> publishedByNode;
+    private final long generation;
+    private volatile @Nullable LiteralBkTree labelTree;
+
+    private RouteSnapshot(
+            LiteralTable<CommandRoot> labelToRoot,
+            SortedLiterals labels,
+            List<CommandRoot> roots,
+            Map<CommandNode, CommandRoot> publishedByNode,
+            long generation) {
+        this.labelToRoot = labelToRoot;
+        this.labels = labels;
+        this.roots = roots;
+        this.publishedByNode = publishedByNode;
+        this.generation = generation;
+    }
+
+    /**
+     * Builds the next snapshot, freezing only the roots that changed.
+     *
+     * <p>Roots outside {@code changedRoots} reuse their published copy from
+     * this snapshot, so a change costs the size of the changed trees plus one
+     * pass over the label index rather than a copy of every tree.</p>
+     *
+     * @param roots        normalized root label to mutable root
+     * @param aliasToRoot  normalized label or alias to mutable root
+     * @param changedRoots normalized labels of the roots changed since this snapshot
+     */
+    RouteSnapshot update(
+            Map<String, CommandRoot> roots,
+            Map<String, CommandRoot> aliasToRoot,
+            Set<String> changedRoots) {
+        Objects.requireNonNull(roots, "roots");
+        Objects.requireNonNull(aliasToRoot, "aliasToRoot");
+        Objects.requireNonNull(changedRoots, "changedRoots");
+        Map<CommandNode, CommandRoot> published = new IdentityHashMap<>(roots.size());
+        roots.forEach((normalizedRoot, root) -> {
+            CommandRoot previous = publishedByNode.get(root.node());
+            published.put(root.node(), previous != null && !changedRoots.contains(normalizedRoot)
+                    ? previous
+                    : new CommandRoot(root.label(), root.aliases(), root.node().freeze()));
+        });
+        Map<String, CommandRoot> labels = new HashMap<>(aliasToRoot.size());
+        aliasToRoot.forEach((label, root) -> {
+            CommandRoot frozen = published.get(root.node());
+            if (frozen != null) {
+                labels.put(label, frozen);
+            }
+        });
+        List<CommandRoot> sorted = published.values().stream()
+                .sorted(Comparator.comparing(CommandRoot::label))
+                .toList();
+        return new RouteSnapshot(
+                LiteralTable.of(labels), SortedLiterals.of(labels.keySet()), sorted, published, generation + 1);
+    }
+
+    /** Returns how many snapshots were published before this one. */
+    long generation() {
+        return generation;
+    }
+
+    /** Returns the root registered under the raw label or alias, ignoring case. */
+    @Nullable CommandRoot root(CharSequence label) {
+        return labelToRoot.get(label);
+    }
+
+    /** Returns every root sorted by label. */
+    List<CommandRoot> roots() {
+        return roots;
+    }
+
+    /**
+     * Returns the typo index of every normalized root label and alias.
+     *
+     * <p>Built on first use and kept for the life of this snapshot, so
+     * publishing stays cheap and only the first mistyped command after a
+     * change pays for the build.</p>
+     */
+    LiteralBkTree labelTree() {
+        LiteralBkTree tree = labelTree;
+        if (tree == null) {
+            tree = LiteralBkTree.of(labels.all());
+            labelTree = tree;
+        }
+        return tree;
+    }
+
+    /** Returns the sorted index of every normalized root label and alias. */
+    SortedLiterals labels() {
+        return labels;
+    }
+}
@@ -10,7 +10,7 @@ public record ValidationResult(boolean valid, List<String> arguments, String inv
 
     public ValidationResult {
         Objects.requireNonNull(arguments, "arguments");
-        arguments = List.copyOf(arguments);
+        arguments = ArgumentView.immutable(arguments);
         Objects.requireNonNull(invalidValue, "invalidValue");
         Objects.requireNonNull(expectedValue, "expectedValue");
         if (valid && rateLimited) {
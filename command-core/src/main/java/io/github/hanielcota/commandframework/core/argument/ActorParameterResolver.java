@@ -2,6 +2,7 @@ package io.github.hanielcota.commandframework.core.argument;
 
 import io.github.hanielcota.commandframework.core.CommandActor;
 import io.github.hanielcota.commandframework.core.ParameterParseContext;
+import io.github.hanielcota.commandframework.core.ParameterParseCursor;
 import io.github.hanielcota.commandframework.core.ParameterResolver;
 import io.github.hanielcota.commandframework.core.ParseResult;
 import java.util.Objects;
@@ -23,4 +24,10 @@ public final class ActorParameterResolver implements ParameterResolver<CommandAc
         Objects.requireNonNull(context, "context");
         return ParseResult.success(context.commandContext().actor(), 0);
     }
+
+    @Override
+    public ParseResult<CommandActor> resolve(ParameterParseCursor cursor) {
+        Objects.requireNonNull(cursor, "cursor");
+        return ParseResult.success(cursor.commandContext().actor(), 0);
+    }
 }
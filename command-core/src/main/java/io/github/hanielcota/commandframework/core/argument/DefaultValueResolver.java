@@ -1,9 +1,9 @@
 package io.github.hanielcota.commandframework.core.argument;
 
 import io.github.hanielcota.commandframework.core.ParameterParseContext;
+import io.github.hanielcota.commandframework.core.ParameterParseCursor;
 import io.github.hanielcota.commandframework.core.ParameterResolver;
 import io.github.hanielcota.commandframework.core.ParseResult;
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -33,11 +33,24 @@ public final class DefaultValueResolver<T> implements ParameterResolver<T> {
     @Override
     public ParseResult<T> resolve(ParameterParseContext context) {
         Objects.requireNonNull(context, "context");
-        if (context.index() >= context.arguments().size()) {
-            ParameterParseContext synthetic = new ParameterParseContext(
-                    context.commandContext(), context.parameter(), List.of(defaultValue), 0);
-            return delegate.resolve(synthetic);
+        return resolve(ParameterParseCursor.of(context));
+    }
+
+    /**
+     * Resolves the typed token, or the default substituted on the same
+     * cursor when the actor typed none.
+     */
+    @Override
+    public ParseResult<T> resolve(ParameterParseCursor cursor) {
+        Objects.requireNonNull(cursor, "cursor");
+        if (cursor.hasNext()) {
+            return delegate.resolve(cursor);
+        }
+        cursor.substitute(defaultValue);
+        try {
+            return delegate.resolve(cursor);
+        } finally {
+            cursor.restore();
         }
-        return delegate.resolve(context);
     }
 }
@@ -1,6 +1,7 @@
 package io.github.hanielcota.commandframework.core.argument;
 
 import io.github.hanielcota.commandframework.core.ParameterParseContext;
+import io.github.hanielcota.commandframework.core.ParameterParseCursor;
 import io.github.hanielcota.commandframework.core.ParameterResolver;
 import io.github.hanielcota.commandframework.core.ParseResult;
 import java.util.List;
@@ -25,9 +26,15 @@ public final class GreedyStringParameterResolver implements ParameterResolver<St
     @Override
     public ParseResult<String> resolve(ParameterParseContext context) {
         Objects.requireNonNull(context, "context");
-        List<String> remaining = context.arguments().subList(context.index(), context.arguments().size());
+        return resolve(ParameterParseCursor.of(context));
+    }
+
+    @Override
+    public ParseResult<String> resolve(ParameterParseCursor cursor) {
+        Objects.requireNonNull(cursor, "cursor");
+        List<String> remaining = cursor.remainingArguments();
         if (remaining.isEmpty()) {
-            return ParseResult.failure("", context.parameter().name());
+            return ParseResult.failure("", cursor.parameter().name());
         }
         return ParseResult.success(String.join(" ", remaining), remaining.size());
     }
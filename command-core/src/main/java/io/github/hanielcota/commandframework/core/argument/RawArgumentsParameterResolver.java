@@ -1,6 +1,7 @@
 package io.github.hanielcota.commandframework.core.argument;
 
 import io.github.hanielcota.commandframework.core.ParameterParseContext;
+import io.github.hanielcota.commandframework.core.ParameterParseCursor;
 import io.github.hanielcota.commandframework.core.ParameterResolver;
 import io.github.hanielcota.commandframework.core.ParseResult;
 import java.util.List;
@@ -21,7 +22,13 @@ public final class RawArgumentsParameterResolver implements ParameterResolver<St
     @Override
     public ParseResult<String[]> resolve(ParameterParseContext context) {
         Objects.requireNonNull(context, "context");
-        List<String> remaining = context.arguments().subList(context.index(), context.arguments().size());
+        return resolve(ParameterParseCursor.of(context));
+    }
+
+    @Override
+    public ParseResult<String[]> resolve(ParameterParseCursor cursor) {
+        Objects.requireNonNull(cursor, "cursor");
+        List<String> remaining = cursor.remainingArguments();
         return ParseResult.success(remaining.toArray(String[]::new), remaining.size());
     }
 }
@@ -3,6 +3,7 @@ package io.github.hanielcota.commandframework.core.argument;
 import io.github.hanielcota.commandframework.core.ArgumentInput;
 import io.github.hanielcota.commandframework.core.ArgumentResolver;
 import io.github.hanielcota.commandframework.core.ParameterParseContext;
+import io.github.hanielcota.commandframework.core.ParameterParseCursor;
 import io.github.hanielcota.commandframework.core.ParameterResolver;
 import io.github.hanielcota.commandframework.core.ParameterSuggestionContext;
 import io.github.hanielcota.commandframework.core.ParseResult;
@@ -29,11 +30,16 @@ public record SingleArgumentParameterResolver<T>(ArgumentResolver<T> resolver) i
     @Override
     public ParseResult<T> resolve(ParameterParseContext context) {
         Objects.requireNonNull(context, "context");
-        if (context.index() >= context.arguments().size()) {
-            return ParseResult.failure("", context.parameter().name());
+        return resolve(ParameterParseCursor.of(context));
+    }
+
+    @Override
+    public ParseResult<T> resolve(ParameterParseCursor cursor) {
+        Objects.requireNonNull(cursor, "cursor");
+        if (!cursor.hasNext()) {
+            return ParseResult.failure("", cursor.parameter().name());
         }
-        String value = context.arguments().get(context.index());
-        return resolver.parse(new ArgumentInput(value, context.parameter().name()));
+        return resolver.parse(new ArgumentInput(cursor.peek(), cursor.parameter().name()));
     }
 
     @Override
@@ -0,0 +1,203 @@
+package io.github.hanielcota.commandframework.core.bulkhead;
+
+import io.github.hanielcota.commandframework.core.metrics.CommandMetrics;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A named, bounded lane of async command execution.
+ *
+ * <p>At most {@code maxConcurrency} tasks run on the underlying executor at
+ * once; up to {@code queueCapacity} more wait in a FIFO queue, and anything
+ * beyond that is handled by the {@link RejectionPolicy}. Each running slot
+ * keeps taking queued tasks until the queue is empty, so the underlying
+ * executor sees no more than {@code maxConcurrency} tasks from one bulkhead.
+ * One slow command family therefore cannot take the threads of the others.</p>
+ *
+ * <p>Active and queued counts are registered as {@code command.bulkhead.active}
+ * and {@code command.bulkhead.queued} gauges, rejections are counted as
+ * {@code command.bulkhead.rejected} and tasks that
+ * {@link RejectionPolicy#CALLER_RUNS} ran on the caller as
+ * {@code command.bulkhead.caller_runs}, all tagged with {@code bulkhead}.</p>
+ */
+public final class CommandBulkhead {
+
+    private final String name;
+    private final int maxConcurrency;
+    private final RejectionPolicy policy;
+    private final Executor executor;
+    private final BlockingQueue<Task> queue;
+    private final AtomicInteger active = new AtomicInteger();
+    private final CommandMetrics.Counter rejected;
+    private final CommandMetrics.Counter callerRuns;
+
+    /**
+     * Creates a bulkhead.
+     *
+     * @param name           the bulkhead name routes refer to; never blank
+     * @param maxConcurrency the maximum number of tasks running at once, positive
+     * @param queueCapacity  the maximum number of waiting tasks, zero or positive
+     * @param policy         what to do when the queue is full
+     * @param executor       where tasks run
+     * @param metrics        where gauges and rejections are reported
+     */
+    public CommandBulkhead(
+            String name,
+            int maxConcurrency,
+            int queueCapacity,
+            RejectionPolicy policy,
+            Executor executor,
+            CommandMetrics metrics) {
+        this.name = Objects.requireNonNull(name, "name");
+        if (name.isBlank()) {
+            throw new IllegalArgumentException("Invalid bulkhead name: expected non-blank");
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Invalid max concurrency: expected at least one");
+        }
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("Invalid queue capacity: expected zero or positive");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.policy = Objects.requireNonNull(policy, "policy");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.queue = queueCapacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(queueCapacity);
+        Map<String, String> tags = CommandMetrics.tags("bulkhead", name);
+        Objects.requireNonNull(metrics, "metrics");
+        this.rejected = metrics.counter("command.bulkhead.rejected", tags);
+        this.callerRuns = metrics.counter("command.bulkhead.caller_runs", tags);
+        metrics.gauge("command.bulkhead.active", tags, active::get);
+        metrics.gauge("command.bulkhead.queued", tags, queue::size);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /** Returns what happens to tasks when every slot is busy and the queue is full. */
+    public RejectionPolicy policy() {
+        return policy;
+    }
+
+    /** Returns the number of running tasks. */
+    public int activeCount() {
+        return active.get();
+    }
+
+    /** Returns the number of waiting tasks. */
+    public int queuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * Runs or queues {@code task}.
+     *
+     * <p>Returns {@code false} when the task was rejected outright; the caller
+     * then handles the rejection itself. {@code onReject} runs instead of a
+     * task that was accepted but later dropped, either by
+     * {@link RejectionPolicy#DISCARD_OLDEST} or because the underlying executor
+     * refused it.</p>
+     *
+     * @param task     the task; never {@code null}
+     * @param onReject run if the accepted task is dropped; never {@code null}
+     * @return whether the task was accepted
+     */
+    public boolean execute(Runnable task, Runnable onReject) {
+        Task entry = new Task(Objects.requireNonNull(task, "task"), Objects.requireNonNull(onReject, "onReject"));
+        if (tryAcquire()) {
+            return start(entry);
+        }
+        if (queue.offer(entry)) {
+            drain();
+            return true;
+        }
+        return switch (policy) {
+            case REJECT -> {
+                rejected.increment();
+                yield false;
+            }
+            case CALLER_RUNS -> {
+                callerRuns.increment();
+                task.run();
+                yield true;
+            }
+            case DISCARD_OLDEST -> {
+                rejected.increment();
+                yield discardOldestFor(entry);
+            }
+        };
+    }
+
+    private boolean discardOldestFor(Task entry) {
+        Task oldest = queue.poll();
+        if (oldest != null) {
+            oldest.onReject().run();
+        }
+        if (queue.offer(entry)) {
+            drain();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = active.get();
+            if (current >= maxConcurrency) {
+                return false;
+            }
+            if (active.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean start(Task first) {
+        try {
+            executor.execute(() -> work(first));
+            return true;
+        } catch (RuntimeException exception) {
+            // Any executor failure, not only RejectedExecutionException, must give the slot back.
+            active.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+    }
+
+    private void work(Task first) {
+        Task task = first;
+        try {
+            while (task != null) {
+                task.task().run();
+                task = queue.poll();
+            }
+        } finally {
+            active.decrementAndGet();
+            drain();
+        }
+    }
+
+    /**
+     * Starts a slot for queued tasks if one is free. Called after queueing and
+     * after a slot is released, so a task queued while the last slot was
+     * finishing is never stranded.
+     */
+    private void drain() {
+        while (!queue.isEmpty() && tryAcquire()) {
+            Task next = queue.poll();
+            if (next == null) {
+                active.decrementAndGet();
+            } else if (!start(next)) {
+                next.onReject().run();
+            }
+        }
+    }
+
+    private record Task(Runnable task, Runnable onReject) {
+    }
+}
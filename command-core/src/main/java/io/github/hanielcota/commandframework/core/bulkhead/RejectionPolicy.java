@@ -0,0 +1,22 @@
+package io.github.hanielcota.commandframework.core.bulkhead;
+
+/**
+ * What a {@link CommandBulkhead} does with a task when every slot is busy and
+ * its queue is full.
+ */
+public enum RejectionPolicy {
+
+    /** Rejects the new task; the dispatcher answers with a server-busy message. */
+    REJECT,
+
+    /**
+     * Runs the new task on the dispatching thread. Routes with a
+     * {@linkplain io.github.hanielcota.commandframework.core.CommandRoute#timeout() timeout}
+     * cannot use a bulkhead with this policy, because that thread is never
+     * interrupted.
+     */
+    CALLER_RUNS,
+
+    /** Rejects the oldest queued task and queues the new one. */
+    DISCARD_OLDEST
+}
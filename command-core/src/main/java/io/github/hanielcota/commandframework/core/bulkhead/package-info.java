@@ -0,0 +1,4 @@
+@NullMarked
+package io.github.hanielcota.commandframework.core.bulkhead;
+
+import org.jspecify.annotations.NullMarked;
@@ -36,6 +36,8 @@ public final class ConfigurationOverlay {
                 .description(checkedRoute.description())
                 .syntax(checkedRoute.syntax())
                 .async(checkedRoute.async())
+                .bulkhead(checkedRoute.bulkhead())
+                .timeout(checkedRoute.timeout())
                 .parameters(checkedRoute.parameters());
         checkedRoute.interceptors().forEach(builder::interceptor);
 
@@ -45,6 +47,8 @@ public final class ConfigurationOverlay {
         config.string(key, "description").ifPresent(builder::description);
         config.string(key, "syntax").ifPresent(builder::syntax);
         config.bool(key, "async").ifPresent(builder::async);
+        config.string(key, "bulkhead").ifPresent(builder::bulkhead);
+        config.duration(key, "timeout").ifPresent(builder::timeout);
 
         return builder.build();
     }
@@ -4,34 +4,43 @@ import io.github.hanielcota.commandframework.core.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.jspecify.annotations.Nullable;
 
+/**
+ * Resolves a route's parameters in order with one {@link ParameterParseCursor}
+ * shared by all of them, so the argument tokens are never copied per
+ * parameter.
+ */
 public final class CommandParameterParser {
 
     public ParameterParseOutcome parse(CommandContext context) {
         Objects.requireNonNull(context, "context");
-        List<ParsedParameter<?>> parsed = new ArrayList<>();
-        int index = 0;
-        for (CommandParameter<?> parameter : context.route().parameters()) {
-            ParameterStep step = parseOne(context, parameter, index, parsed);
-            if (!step.isSuccess()) {
-                return ParameterParseOutcome.failure(step.invalidValue(), step.expectedValue());
+        List<CommandParameter<?>> parameters = context.route().parameters();
+        List<ParsedParameter<?>> parsed = new ArrayList<>(parameters.size());
+        ParameterParseCursor cursor = new ParameterParseCursor(context);
+        for (CommandParameter<?> parameter : parameters) {
+            ParseResult<?> result = parseOne(cursor, parameter, parsed);
+            if (result == null) {
+                return ParameterParseOutcome.failure("null", "non-null parse result from resolver");
+            }
+            if (!result.isSuccess()) {
+                return ParameterParseOutcome.failure(result.invalidValue(), result.expectedValue());
             }
-            index += step.consumedTokens();
         }
-        return finish(context, index, parsed);
+        return finish(context, cursor.index(), parsed);
     }
 
-    private <T> ParameterStep parseOne(CommandContext context, CommandParameter<T> parameter, int index, List<ParsedParameter<?>> parsed) {
-        ParameterParseContext parseContext = new ParameterParseContext(context, parameter, context.arguments(), index);
-        ParseResult<T> result = parameter.resolve(parseContext);
-        if (result == null) {
-            return ParameterStep.failure("null", "non-null parse result from resolver");
-        }
-        if (!result.isSuccess()) {
-            return ParameterStep.failure(result.invalidValue(), result.expectedValue());
+    private <T> @Nullable ParseResult<T> parseOne(
+            ParameterParseCursor cursor,
+            CommandParameter<T> parameter,
+            List<ParsedParameter<?>> parsed) {
+        cursor.at(parameter);
+        ParseResult<T> result = parameter.resolve(cursor);
+        if (result != null && result.isSuccess()) {
+            parsed.add(new ParsedParameter<>(parameter, result.value()));
+            cursor.advance(result.consumedTokens());
         }
-        parsed.add(new ParsedParameter<>(parameter, result.value()));
-        return ParameterStep.success(result.consumedTokens());
+        return result;
     }
 
     private ParameterParseOutcome finish(CommandContext context, int index, List<ParsedParameter<?>> parsed) {
@@ -40,18 +49,4 @@ public final class CommandParameterParser {
         }
         return ParameterParseOutcome.success(parsed);
     }
-
-    private record ParameterStep(boolean success, int consumedTokens, String invalidValue, String expectedValue) {
-        static ParameterStep success(int consumedTokens) {
-            return new ParameterStep(true, consumedTokens, "", "");
-        }
-
-        static ParameterStep failure(String invalidValue, String expectedValue) {
-            return new ParameterStep(false, 0, invalidValue, expectedValue);
-        }
-
-        boolean isSuccess() {
-            return success;
-        }
-    }
 }
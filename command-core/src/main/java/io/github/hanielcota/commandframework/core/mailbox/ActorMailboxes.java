@@ -0,0 +1,172 @@
+package io.github.hanielcota.commandframework.core.mailbox;
+
+import io.github.hanielcota.commandframework.core.metrics.CommandMetrics;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Runs each actor's tasks one at a time, in submission order.
+ *
+ * <p>Every actor with pending work has a mailbox: a bounded FIFO queue with
+ * at most one drain task on the executor. Different actors drain in parallel,
+ * so per-actor state needs no locking while unrelated actors never wait on
+ * each other. A drain runs at most {@link #BATCH} tasks before handing its
+ * thread back, so a busy actor cannot hold a pooled thread indefinitely.
+ * A mailbox is removed as soon as it is empty and reappears on the actor's
+ * next task, so idle actors cost nothing.</p>
+ *
+ * <p>The number of live mailboxes is registered as the
+ * {@code command.mailbox.active} gauge and tasks refused because a mailbox was
+ * full are counted as {@code command.mailbox.rejected}.</p>
+ */
+public final class ActorMailboxes {
+
+    /** The most tasks one drain runs before yielding its thread. */
+    public static final int BATCH = 16;
+
+    private final int maxDepth;
+    private final Executor executor;
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final CommandMetrics.Counter rejected;
+
+    /**
+     * Creates the mailboxes.
+     *
+     * @param maxDepth the most tasks one actor may have waiting, positive
+     * @param executor where mailboxes drain; virtual threads or a
+     *                 work-stealing pool suit it
+     * @param metrics  where the gauge and rejections are reported
+     */
+    public ActorMailboxes(int maxDepth, Executor executor, CommandMetrics metrics) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Invalid mailbox depth: expected at least one");
+        }
+        this.maxDepth = maxDepth;
+        this.executor = Objects.requireNonNull(executor, "executor");
+        Objects.requireNonNull(metrics, "metrics");
+        this.rejected = metrics.counter("command.mailbox.rejected", Map.of());
+        metrics.gauge("command.mailbox.active", Map.of(), mailboxes::size);
+    }
+
+    /**
+     * Queues {@code task} behind the actor's earlier tasks.
+     *
+     * <p>Returns {@code false} when the actor's mailbox is full. If the
+     * executor refuses to start a drain, every task of that mailbox is
+     * dropped and its {@code onReject} runs instead.</p>
+     *
+     * @param actorId  the actor the task belongs to; never {@code null}
+     * @param task     the task; never {@code null}
+     * @param onReject run if the accepted task is dropped; never {@code null}
+     * @return whether the task was accepted
+     */
+    public boolean execute(String actorId, Runnable task, Runnable onReject) {
+        Objects.requireNonNull(actorId, "actorId");
+        Task entry = new Task(Objects.requireNonNull(task, "task"), Objects.requireNonNull(onReject, "onReject"));
+        @Nullable Mailbox[] started = new Mailbox[1];
+        boolean[] accepted = new boolean[1];
+        // Mailbox state only changes inside compute, which serializes per actor.
+        mailboxes.compute(actorId, (id, current) -> {
+            Mailbox mailbox = current != null ? current : new Mailbox(id);
+            if (mailbox.pending.size() >= maxDepth) {
+                return current;
+            }
+            accepted[0] = true;
+            mailbox.pending.add(entry);
+            if (!mailbox.scheduled) {
+                mailbox.scheduled = true;
+                started[0] = mailbox;
+            }
+            return mailbox;
+        });
+        if (!accepted[0]) {
+            rejected.increment();
+            return false;
+        }
+        if (started[0] != null) {
+            schedule(started[0]);
+        }
+        return true;
+    }
+
+    /** Returns the number of actors with queued or running tasks. */
+    public int activeCount() {
+        return mailboxes.size();
+    }
+
+    /** Returns the number of tasks waiting in the actor's mailbox. */
+    public int depth(String actorId) {
+        int[] depth = new int[1];
+        mailboxes.computeIfPresent(Objects.requireNonNull(actorId, "actorId"), (id, mailbox) -> {
+            depth[0] = mailbox.pending.size();
+            return mailbox;
+        });
+        return depth[0];
+    }
+
+    private void schedule(Mailbox mailbox) {
+        try {
+            executor.execute(() -> drain(mailbox));
+        } catch (RejectedExecutionException exception) {
+            ArrayDeque<Task> dropped = new ArrayDeque<>();
+            mailboxes.computeIfPresent(mailbox.actorId, (id, current) -> {
+                dropped.addAll(current.pending);
+                return null;
+            });
+            rejected.increment();
+            dropped.forEach(task -> task.onReject().run());
+        }
+    }
+
+    private void drain(Mailbox mailbox) {
+        boolean emptied = false;
+        try {
+            for (int ran = 0; ran < BATCH; ran++) {
+                Task next = poll(mailbox);
+                if (next == null) {
+                    emptied = true;
+                    return;
+                }
+                next.task().run();
+            }
+        } finally {
+            // A full batch, or a task that threw, hands the rest to a fresh drain.
+            if (!emptied) {
+                schedule(mailbox);
+            }
+        }
+    }
+
+    /** Takes the next task, removing the mailbox instead when it is empty. */
+    private @Nullable Task poll(Mailbox mailbox) {
+        @Nullable Task[] next = new Task[1];
+        mailboxes.computeIfPresent(mailbox.actorId, (id, current) -> {
+            next[0] = current.pending.poll();
+            if (next[0] == null) {
+                current.scheduled = false;
+                return null;
+            }
+            return current;
+        });
+        return next[0];
+    }
+
+    private static final class Mailbox {
+
+        private final String actorId;
+        private final ArrayDeque<Task> pending = new ArrayDeque<>();
+        private boolean scheduled;
+
+        private Mailbox(String actorId) {
+            this.actorId = actorId;
+        }
+    }
+
+    private record Task(Runnable task, Runnable onReject) {
+    }
+}
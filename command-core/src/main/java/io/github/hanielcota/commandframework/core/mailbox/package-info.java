@@ -0,0 +1,4 @@
+@NullMarked
+package io.github.hanielcota.commandframework.core.mailbox;
+
+import org.jspecify.annotations.NullMarked;
@@ -5,6 +5,7 @@ import io.github.hanielcota.commandframework.core.CommandContext;
 import io.github.hanielcota.commandframework.core.CommandMessageProvider;
 import io.github.hanielcota.commandframework.core.SenderRequirement;
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 
 public final class DefaultCommandMessageProvider implements CommandMessageProvider {
@@ -15,6 +16,16 @@ public final class DefaultCommandMessageProvider implements CommandMessageProvid
         return "Unknown command: %s.".formatted(label);
     }
 
+    @Override
+    public String unknownCommand(String label, List<String> corrections) {
+        Objects.requireNonNull(label, "label");
+        Objects.requireNonNull(corrections, "corrections");
+        if (corrections.isEmpty()) {
+            return unknownCommand(label);
+        }
+        return "Unknown command: %s. Did you mean: /%s?".formatted(label, String.join(", /", corrections));
+    }
+
     @Override
     public String noPermission(CommandContext context, String permission) {
         Objects.requireNonNull(context, "context");
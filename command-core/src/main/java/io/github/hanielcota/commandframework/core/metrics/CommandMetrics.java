@@ -3,6 +3,7 @@ package io.github.hanielcota.commandframework.core.metrics;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.LongSupplier;
 
 /**
  * Lightweight metrics abstraction for command dispatch observability.
@@ -10,9 +11,41 @@ import java.util.Objects;
  * <p>Implementations may bridge to Micrometer, Prometheus, or platform-specific
  * metric registries. The framework records counters and timers automatically
  * when a non-noop implementation is supplied to the {@code CommandDispatcher}.</p>
+ *
+ * <p>The dispatcher binds a {@link Counter} per route and status and a
+ * {@link Timer} per route through {@link #counter} and {@link #timer} when the
+ * route is registered, so a dispatch records without building tag maps or
+ * strings. The defaults delegate to {@link #increment} and {@link #record};
+ * bridges should override them to return their registry's own instruments,
+ * such as a Micrometer {@code Counter} or a {@code LongAdder}.</p>
  */
 public interface CommandMetrics {
 
+    /** A counter bound to one name and tag set. */
+    @FunctionalInterface
+    interface Counter {
+
+        /** Increments the counter by one. */
+        void increment();
+    }
+
+    /** A timer bound to one name and tag set. */
+    @FunctionalInterface
+    interface Timer {
+
+        /**
+         * Records a duration.
+         *
+         * @param durationNanos the elapsed time in nanoseconds
+         */
+        void record(long durationNanos);
+
+        /** Records a duration. */
+        default void record(Duration duration) {
+            record(duration.toNanos());
+        }
+    }
+
     /**
      * Increments a counter by one.
      *
@@ -30,14 +63,64 @@ public interface CommandMetrics {
      */
     void record(String name, Map<String, String> tags, Duration duration);
 
+    /**
+     * Returns a counter bound to {@code name} and {@code tags}, resolved once
+     * and then incremented many times.
+     *
+     * @param name the metric name
+     * @param tags key-value pairs; never {@code null}
+     */
+    default Counter counter(String name, Map<String, String> tags) {
+        Objects.requireNonNull(name, "name");
+        Map<String, String> bound = Map.copyOf(tags);
+        return () -> increment(name, bound);
+    }
+
+    /**
+     * Returns a timer bound to {@code name} and {@code tags}, resolved once
+     * and then recorded many times.
+     *
+     * @param name the metric name
+     * @param tags key-value pairs; never {@code null}
+     */
+    default Timer timer(String name, Map<String, String> tags) {
+        Objects.requireNonNull(name, "name");
+        Map<String, String> bound = Map.copyOf(tags);
+        return durationNanos -> record(name, bound, Duration.ofNanos(durationNanos));
+    }
+
+    /**
+     * Registers a gauge whose value the backend samples when it needs it.
+     * The default ignores it.
+     *
+     * @param name  the metric name
+     * @param tags  key-value pairs; never {@code null}
+     * @param value reads the current value; must be cheap and thread-safe
+     */
+    default void gauge(String name, Map<String, String> tags, LongSupplier value) {
+    }
+
     /** Returns a metrics instance that discards all recordings. */
     static CommandMetrics noop() {
         return new CommandMetrics() {
+            private static final Counter COUNTER = () -> {};
+            private static final Timer TIMER = durationNanos -> {};
+
             @Override
             public void increment(String name, Map<String, String> tags) {}
 
             @Override
             public void record(String name, Map<String, String> tags, Duration duration) {}
+
+            @Override
+            public Counter counter(String name, Map<String, String> tags) {
+                return COUNTER;
+            }
+
+            @Override
+            public Timer timer(String name, Map<String, String> tags) {
+                return TIMER;
+            }
         };
     }
 
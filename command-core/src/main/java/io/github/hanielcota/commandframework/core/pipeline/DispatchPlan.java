@@ -0,0 +1,121 @@
+package io.github.hanielcota.commandframework.core.pipeline;
+
+import io.github.hanielcota.commandframework.core.CommandContext;
+import io.github.hanielcota.commandframework.core.CommandInterceptor;
+import io.github.hanielcota.commandframework.core.CommandResult;
+import io.github.hanielcota.commandframework.core.CommandRoute;
+import io.github.hanielcota.commandframework.core.SenderRequirement;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The dispatch steps of one route, decided once when the route is registered.
+ *
+ * <p>A plan runs the same checks as {@link GuardStage} followed by
+ * {@link ExecutionStage}, but only those the route needs: the permission check
+ * only when the route has a permission, the sender check only when it is not
+ * {@link SenderRequirement#ANY}, the cooldown claim only when it has a
+ * cooldown. Framework and route interceptors are merged up front, and a route
+ * without interceptors skips their callbacks. Plans are created by
+ * {@link DispatchPlanCompiler} and must be compiled again whenever the route
+ * itself changes.</p>
+ */
+public final class DispatchPlan {
+
+    private final CommandRoute route;
+    private final GuardStage guard;
+    private final ExecutionStage execution;
+    private final List<CommandInterceptor> interceptors;
+    private final boolean checksPermission;
+    private final boolean checksSender;
+    private final boolean checksCooldown;
+
+    DispatchPlan(CommandRoute route, GuardStage guard, ExecutionStage execution) {
+        this.route = Objects.requireNonNull(route, "route");
+        this.guard = Objects.requireNonNull(guard, "guard");
+        this.execution = Objects.requireNonNull(execution, "execution");
+        this.interceptors = execution.interceptorsFor(route);
+        this.checksPermission = route.hasPermission();
+        this.checksSender = route.senderRequirement() != SenderRequirement.ANY;
+        this.checksCooldown = route.hasCooldown();
+    }
+
+    /** Returns the route this plan was compiled for. */
+    public CommandRoute route() {
+        return route;
+    }
+
+    /** Whether the plan checks the actor's permission. */
+    public boolean checksPermission() {
+        return checksPermission;
+    }
+
+    /** Whether the plan checks the actor's kind. */
+    public boolean checksSender() {
+        return checksSender;
+    }
+
+    /** Whether the plan claims a cooldown. */
+    public boolean checksCooldown() {
+        return checksCooldown;
+    }
+
+    /** Returns the framework interceptors followed by the route's own, in call order. */
+    public List<CommandInterceptor> interceptors() {
+        return interceptors;
+    }
+
+    /**
+     * Runs the plan for a context resolved to {@link #route()}.
+     *
+     * @param context the command context; never {@code null}
+     * @return the command result; never {@code null}
+     */
+    public CommandResult execute(CommandContext context) {
+        return execute(context, null);
+    }
+
+    /**
+     * Runs the plan, charging its guard, parse, interceptor and executor time
+     * to {@code sample} when one is given.
+     *
+     * @param context the command context; never {@code null}
+     * @param sample  the dispatch's stage sample, or {@code null} when it is not sampled
+     * @return the command result; never {@code null}
+     */
+    public CommandResult execute(CommandContext context, @Nullable StageSample sample) {
+        Objects.requireNonNull(context, "context");
+        CommandResult guarded = guard(context);
+        if (sample != null) {
+            sample.lap(PipelineStage.GUARD);
+        }
+        if (guarded != null) {
+            return guarded;
+        }
+        return execution.execute(context, interceptors, sample);
+    }
+
+    /** Runs the route's guards, returning the first failure or {@code null}. */
+    private @Nullable CommandResult guard(CommandContext context) {
+        if (checksPermission) {
+            CommandResult permission = guard.guardPermission(context);
+            if (!permission.isSuccess()) {
+                return permission;
+            }
+        }
+        if (checksSender) {
+            CommandResult sender = guard.guardSender(context);
+            if (!sender.isSuccess()) {
+                return sender;
+            }
+        }
+        if (checksCooldown) {
+            CommandResult cooldown = guard.guardCooldown(context);
+            if (!cooldown.isSuccess()) {
+                return cooldown;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.hanielcota.commandframework.core.pipeline;
+
+import io.github.hanielcota.commandframework.core.CommandRoute;
+import java.util.Objects;
+
+/**
+ * Compiles routes into {@link DispatchPlan}s sharing one guard and one
+ * execution stage.
+ */
+public final class DispatchPlanCompiler {
+
+    private final GuardStage guard;
+    private final ExecutionStage execution;
+
+    public DispatchPlanCompiler(GuardStage guard, ExecutionStage execution) {
+        this.guard = Objects.requireNonNull(guard, "guard");
+        this.execution = Objects.requireNonNull(execution, "execution");
+    }
+
+    /**
+     * Returns the plan for {@code route}.
+     *
+     * @param route the registered route; never {@code null}
+     */
+    public DispatchPlan compile(CommandRoute route) {
+        return new DispatchPlan(Objects.requireNonNull(route, "route"), guard, execution);
+    }
+}
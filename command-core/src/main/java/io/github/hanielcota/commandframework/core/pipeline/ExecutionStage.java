@@ -5,6 +5,7 @@ import io.github.hanielcota.commandframework.core.CommandInterceptor;
 import io.github.hanielcota.commandframework.core.CommandLogger;
 import io.github.hanielcota.commandframework.core.CommandMessenger;
 import io.github.hanielcota.commandframework.core.CommandResult;
+import io.github.hanielcota.commandframework.core.CommandRoute;
 import io.github.hanielcota.commandframework.core.CommandStatus;
 import io.github.hanielcota.commandframework.core.ParsedParameter;
 import io.github.hanielcota.commandframework.core.dispatch.CommandParameterParser;
@@ -14,6 +15,7 @@ import io.github.hanielcota.commandframework.core.usage.UsageFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Parses parameters and invokes the executor, including interceptors.
@@ -46,10 +48,29 @@ public final class ExecutionStage implements CommandDispatchStage {
     public CommandResult process(CommandContext context, DispatchContinuation continuation) {
         Objects.requireNonNull(context, "context");
         Objects.requireNonNull(continuation, "continuation");
-        return switch (parser.parse(context)) {
+        return execute(context, interceptorsFor(context.route()));
+    }
+
+    /**
+     * Parses and runs {@code context} with an already merged interceptor list,
+     * as a {@link DispatchPlan} does. Routes without parameters and arguments
+     * skip the parser, and an empty list skips the interceptor callbacks.
+     */
+    CommandResult execute(CommandContext context, List<CommandInterceptor> all) {
+        return execute(context, all, null);
+    }
+
+    /** Like {@link #execute(CommandContext, List)}, charging each step to {@code sample}. */
+    CommandResult execute(CommandContext context, List<CommandInterceptor> all, @Nullable StageSample sample) {
+        if (context.route().parameters().isEmpty() && context.arguments().isEmpty()) {
+            return run(context, List.of(), all, sample);
+        }
+        ParameterParseOutcome outcome = parser.parse(context);
+        lap(sample, PipelineStage.PARSE);
+        return switch (outcome) {
             case ParameterParseOutcome.Success success -> {
                 CommandContext withParams = context.withParsedParameters(success.parameters());
-                yield execute(withParams, success.parameters());
+                yield run(withParams, success.parameters(), all, sample);
             }
             case ParameterParseOutcome.Failure failure -> {
                 messenger.notifyParseFailure(context, failure.failureValue().invalidValue(), failure.failureValue().expectedValue());
@@ -58,23 +79,43 @@ public final class ExecutionStage implements CommandDispatchStage {
         };
     }
 
-    private CommandResult execute(CommandContext context, List<ParsedParameter<?>> parameters) {
-        List<CommandInterceptor> all = allInterceptors(context);
-        List<CommandInterceptor> succeeded = new ArrayList<>();
+    /** Returns the framework interceptors followed by the route's own. */
+    List<CommandInterceptor> interceptorsFor(CommandRoute route) {
+        if (route.interceptors().isEmpty()) {
+            return interceptors;
+        }
+        List<CommandInterceptor> all = new ArrayList<>(interceptors.size() + route.interceptors().size());
+        all.addAll(interceptors);
+        all.addAll(route.interceptors());
+        return List.copyOf(all);
+    }
+
+    private CommandResult run(
+            CommandContext context,
+            List<ParsedParameter<?>> parameters,
+            List<CommandInterceptor> all,
+            @Nullable StageSample sample) {
+        if (all.isEmpty()) {
+            return invoke(context, parameters, sample);
+        }
+        List<CommandInterceptor> succeeded = new ArrayList<>(all.size());
         CommandResult before = before(context, all, succeeded);
         if (!before.isSuccess()) {
-            after(context, before, succeeded);
-            return before;
+            CommandResult result = after(context, before, succeeded);
+            lap(sample, PipelineStage.INTERCEPTORS);
+            return result;
         }
-        CommandResult executed = invoke(context, parameters);
-        return after(context, executed, all);
+        lap(sample, PipelineStage.INTERCEPTORS);
+        CommandResult executed = invoke(context, parameters, sample);
+        CommandResult result = after(context, executed, all);
+        lap(sample, PipelineStage.INTERCEPTORS);
+        return result;
     }
 
-    private List<CommandInterceptor> allInterceptors(CommandContext context) {
-        List<CommandInterceptor> all = new ArrayList<>(interceptors.size() + context.route().interceptors().size());
-        all.addAll(interceptors);
-        all.addAll(context.route().interceptors());
-        return all;
+    private static void lap(@Nullable StageSample sample, PipelineStage stage) {
+        if (sample != null) {
+            sample.lap(stage);
+        }
     }
 
     /**
@@ -104,6 +145,12 @@ public final class ExecutionStage implements CommandDispatchStage {
         return current;
     }
 
+    private CommandResult invoke(CommandContext context, List<ParsedParameter<?>> parameters, @Nullable StageSample sample) {
+        CommandResult result = invoke(context, parameters);
+        lap(sample, PipelineStage.EXECUTOR);
+        return result;
+    }
+
     private CommandResult invoke(CommandContext context, List<ParsedParameter<?>> parameters) {
         try {
             CommandResult result = context.route().executor().execute(context, parameters);
@@ -28,24 +28,45 @@ public final class GuardStage implements CommandDispatchStage {
     public CommandResult process(CommandContext context, DispatchContinuation continuation) {
         Objects.requireNonNull(context, "context");
         Objects.requireNonNull(continuation, "continuation");
-        CommandResult permission = checkPermission(context);
+        CommandResult permission = guardPermission(context);
         if (!permission.isSuccess()) {
-            logger.debug("Guard denied permission: actor=%s, route=%s".formatted(context.actor().uniqueId(), context.route().canonicalPath()));
             return permission;
         }
-        CommandResult sender = checkSender(context);
+        CommandResult sender = guardSender(context);
         if (!sender.isSuccess()) {
-            logger.debug("Guard denied sender: actor=%s, route=%s, expected=%s".formatted(context.actor().uniqueId(), context.route().canonicalPath(), context.route().senderRequirement()));
             return sender;
         }
-        CommandResult cooldown = checkCooldown(context);
+        CommandResult cooldown = guardCooldown(context);
         if (!cooldown.isSuccess()) {
-            logger.debug("Guard denied cooldown: actor=%s, route=%s".formatted(context.actor().uniqueId(), context.route().canonicalPath()));
             return cooldown;
         }
         return continuation.proceed(context);
     }
 
+    CommandResult guardPermission(CommandContext context) {
+        CommandResult permission = checkPermission(context);
+        if (!permission.isSuccess()) {
+            logger.debug("Guard denied permission: actor=%s, route=%s", context.actor().uniqueId(), context.route().canonicalPath());
+        }
+        return permission;
+    }
+
+    CommandResult guardSender(CommandContext context) {
+        CommandResult sender = checkSender(context);
+        if (!sender.isSuccess()) {
+            logger.debug("Guard denied sender: actor=%s, route=%s, expected=%s", context.actor().uniqueId(), context.route().canonicalPath(), context.route().senderRequirement());
+        }
+        return sender;
+    }
+
+    CommandResult guardCooldown(CommandContext context) {
+        CommandResult cooldown = checkCooldown(context);
+        if (!cooldown.isSuccess()) {
+            logger.debug("Guard denied cooldown: actor=%s, route=%s", context.actor().uniqueId(), context.route().canonicalPath());
+        }
+        return cooldown;
+    }
+
     private CommandResult checkPermission(CommandContext context) {
         if (!context.route().hasPermission() || context.actor().hasPermission(context.route().permission())) {
             return CommandResult.success();
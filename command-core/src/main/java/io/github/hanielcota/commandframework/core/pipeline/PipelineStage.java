@@ -0,0 +1,30 @@
+package io.github.hanielcota.commandframework.core.pipeline;
+
+import java.util.Locale;
+
+/**
+ * The steps of a dispatch timed by a {@link StageSample}.
+ */
+public enum PipelineStage {
+    /** Input length and character checks. */
+    SANITIZE,
+    /** The actor's dispatch throttle. */
+    THROTTLE,
+    /** Route resolution, including the resolution cache. */
+    RESOLVE,
+    /** Waiting for the async executor, bulkhead or mailbox; async routes only. */
+    QUEUE,
+    /** Permission, sender and cooldown checks. */
+    GUARD,
+    /** Parameter parsing. */
+    PARSE,
+    /** Interceptor {@code before} and {@code after} callbacks. */
+    INTERCEPTORS,
+    /** The route's {@link io.github.hanielcota.commandframework.core.CommandExecutor}. */
+    EXECUTOR;
+
+    /** Returns the {@code stage} tag value of this stage. */
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.hanielcota.commandframework.core.pipeline;
+
+import java.util.Objects;
+
+/**
+ * Per-stage durations of one sampled dispatch.
+ *
+ * <p>The dispatcher creates a sample for the dispatches it picks and each
+ * stage calls {@link #lap} when it ends, charging the time since the previous
+ * lap to that stage; a stage that runs more than once accumulates. A sample is
+ * used by one thread at a time, handed over with the dispatch itself when an
+ * async route changes threads.</p>
+ */
+public final class StageSample {
+
+    private static final PipelineStage[] STAGES = PipelineStage.values();
+
+    private final long[] nanos = new long[STAGES.length];
+    private long last;
+
+    /**
+     * Starts a sample at {@code startNanos}.
+     *
+     * @param startNanos a {@link System#nanoTime()} reading
+     */
+    public StageSample(long startNanos) {
+        this.last = startNanos;
+    }
+
+    /** Charges the time since the previous lap to {@code stage}. */
+    public void lap(PipelineStage stage) {
+        long now = System.nanoTime();
+        nanos[stage.ordinal()] += now - last;
+        last = now;
+    }
+
+    /** Returns the nanoseconds charged to {@code stage}. */
+    public long nanos(PipelineStage stage) {
+        return nanos[Objects.requireNonNull(stage, "stage").ordinal()];
+    }
+}
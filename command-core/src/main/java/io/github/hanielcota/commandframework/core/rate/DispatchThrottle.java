@@ -48,6 +48,23 @@ public final class DispatchThrottle implements AutoCloseable {
         return ThrottleDecision.DENIED;
     }
 
+    /**
+     * Claims up to {@code permits} dispatches for one actor in a single bucket
+     * operation, returning how many were allowed. Callers map the shortfall
+     * to rejected dispatches, so claiming a batch at once throttles it like
+     * the same dispatches claimed one by one.
+     *
+     * @param permits the dispatches to claim, at least one
+     */
+    public int claim(String actorId, int permits) {
+        String checkedActorId = Objects.requireNonNull(actorId, "actorId");
+        if (permits < 1) {
+            throw new IllegalArgumentException("Invalid permits: expected at least one");
+        }
+        Bucket bucket = buckets.asMap().computeIfAbsent(checkedActorId, ignored -> newBucket());
+        return (int) bucket.tryConsumeAsMuchAsPossible(permits);
+    }
+
     @Override
     public void close() {
         buckets.invalidateAll();
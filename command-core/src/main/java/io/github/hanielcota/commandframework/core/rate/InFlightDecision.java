@@ -0,0 +1,8 @@
+package io.github.hanielcota.commandframework.core.rate;
+
+/** Outcome of {@link InFlightLimiter#tryAcquire}. */
+public enum InFlightDecision {
+    ALLOWED,
+    ACTOR_LIMITED,
+    ROUTE_LIMITED
+}
@@ -0,0 +1,91 @@
+package io.github.hanielcota.commandframework.core.rate;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caps how many async commands are running or queued at once, per actor and
+ * per route.
+ *
+ * <p>{@link DispatchThrottle} bounds how often an actor submits commands; this
+ * bounds how many of them can hold a thread, a queue slot or a connection at
+ * the same moment. A permit is taken before an async command is handed off
+ * and must be {@linkplain #release released} once it stops holding
+ * resources. Counters exist only while they are non-zero, so idle actors cost
+ * nothing.</p>
+ */
+public final class InFlightLimiter {
+
+    private final int maxPerActor;
+    private final int maxPerRoute;
+    private final Map<String, Integer> actors = new ConcurrentHashMap<>();
+    private final Map<String, Integer> routes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a limiter.
+     *
+     * @param maxPerActor in-flight commands allowed per actor, or zero for no limit
+     * @param maxPerRoute in-flight commands allowed per route, or zero for no limit
+     */
+    public InFlightLimiter(int maxPerActor, int maxPerRoute) {
+        if (maxPerActor < 0) {
+            throw new IllegalArgumentException("Invalid max in-flight per actor: expected zero or positive");
+        }
+        if (maxPerRoute < 0) {
+            throw new IllegalArgumentException("Invalid max in-flight per route: expected zero or positive");
+        }
+        this.maxPerActor = maxPerActor == 0 ? Integer.MAX_VALUE : maxPerActor;
+        this.maxPerRoute = maxPerRoute == 0 ? Integer.MAX_VALUE : maxPerRoute;
+    }
+
+    /**
+     * Takes a permit for one command of {@code actorId} on {@code route}, or
+     * reports which ceiling was reached. Nothing is taken when it is denied.
+     */
+    public InFlightDecision tryAcquire(String actorId, String route) {
+        Objects.requireNonNull(actorId, "actorId");
+        Objects.requireNonNull(route, "route");
+        if (!increment(actors, actorId, maxPerActor)) {
+            return InFlightDecision.ACTOR_LIMITED;
+        }
+        if (!increment(routes, route, maxPerRoute)) {
+            decrement(actors, actorId);
+            return InFlightDecision.ROUTE_LIMITED;
+        }
+        return InFlightDecision.ALLOWED;
+    }
+
+    /** Returns a permit taken by {@link #tryAcquire}. */
+    public void release(String actorId, String route) {
+        decrement(actors, Objects.requireNonNull(actorId, "actorId"));
+        decrement(routes, Objects.requireNonNull(route, "route"));
+    }
+
+    /** Returns the number of in-flight commands of {@code actorId}. */
+    public int inFlight(String actorId) {
+        return actors.getOrDefault(Objects.requireNonNull(actorId, "actorId"), 0);
+    }
+
+    /** Returns the number of in-flight commands on {@code route}. */
+    public int routeInFlight(String route) {
+        return routes.getOrDefault(Objects.requireNonNull(route, "route"), 0);
+    }
+
+    private static boolean increment(Map<String, Integer> counts, String key, int max) {
+        boolean[] acquired = new boolean[1];
+        counts.compute(key, (ignored, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= max) {
+                return count;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        return acquired[0];
+    }
+
+    private static void decrement(Map<String, Integer> counts, String key) {
+        counts.computeIfPresent(key, (ignored, count) -> count <= 1 ? null : count - 1);
+    }
+}
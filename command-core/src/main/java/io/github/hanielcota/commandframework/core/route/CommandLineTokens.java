@@ -0,0 +1,151 @@
+package io.github.hanielcota.commandframework.core.route;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable list of the whitespace-separated tokens of a raw command line.
+ *
+ * <p>The line is split in a single pass into start/end offsets over the
+ * original buffer; no token is copied until {@link #get(int)} asks for it as a
+ * {@link String}, and each token is copied at most once. {@link #token(int)}
+ * exposes a token as a {@link CharSequence} slice instead, so route literals
+ * can be matched and tokens checked without building strings for them.</p>
+ *
+ * <p>Tokens are separated by runs of spaces, tabs, line breaks and form feeds;
+ * leading and trailing separators produce no empty tokens. The caller must not
+ * modify a mutable buffer while the tokens are in use.</p>
+ */
+public final class CommandLineTokens extends AbstractList<String> implements RandomAccess {
+
+    private static final CommandLineTokens EMPTY = new CommandLineTokens("", new int[0], new String[0], 0, 0);
+
+    private final CharSequence source;
+    private final int[] bounds;
+    private final @Nullable String[] strings;
+    private final int from;
+    private final int size;
+
+    private CommandLineTokens(CharSequence source, int[] bounds, @Nullable String[] strings, int from, int size) {
+        this.source = source;
+        this.bounds = bounds;
+        this.strings = strings;
+        this.from = from;
+        this.size = size;
+    }
+
+    /**
+     * Splits {@code line} into tokens.
+     *
+     * @param line the raw command line or argument string; never {@code null}
+     * @return the tokens; never {@code null}
+     */
+    public static CommandLineTokens tokenize(CharSequence line) {
+        Objects.requireNonNull(line, "line");
+        int[] bounds = new int[8];
+        int count = 0;
+        int index = 0;
+        int length = line.length();
+        while (index < length) {
+            while (index < length && isSeparator(line.charAt(index))) {
+                index++;
+            }
+            if (index == length) {
+                break;
+            }
+            int start = index;
+            while (index < length && !isSeparator(line.charAt(index))) {
+                index++;
+            }
+            if (count * 2 == bounds.length) {
+                bounds = Arrays.copyOf(bounds, bounds.length * 2);
+            }
+            bounds[count * 2] = start;
+            bounds[count * 2 + 1] = index;
+            count++;
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+        return new CommandLineTokens(line, bounds, new String[count], 0, count);
+    }
+
+    /**
+     * Returns the token at {@code index} as a string, copying it out of the
+     * line on first access.
+     */
+    @Override
+    public String get(int index) {
+        Objects.checkIndex(index, size);
+        int slot = from + index;
+        String value = strings[slot];
+        if (value == null) {
+            // Racing threads copy the same characters; String is safely published.
+            value = source.subSequence(bounds[slot * 2], bounds[slot * 2 + 1]).toString();
+            strings[slot] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the token at {@code index} without copying it: the string if it
+     * was already materialized, otherwise a slice over the line.
+     */
+    public CharSequence token(int index) {
+        Objects.checkIndex(index, size);
+        int slot = from + index;
+        String value = strings[slot];
+        if (value != null) {
+            return value;
+        }
+        return new Slice(source, bounds[slot * 2], bounds[slot * 2 + 1]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** Returns the tokens between {@code fromIndex} and {@code toIndex}, sharing this line. */
+    @Override
+    public CommandLineTokens subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex == toIndex) {
+            return EMPTY;
+        }
+        return new CommandLineTokens(source, bounds, strings, from + fromIndex, toIndex - fromIndex);
+    }
+
+    private static boolean isSeparator(char value) {
+        return value == ' ' || value == '\t' || value == '\n' || value == '\u000B' || value == '\f' || value == '\r';
+    }
+
+    private record Slice(CharSequence source, int start, int end) implements CharSequence {
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            Objects.checkIndex(index, end - start);
+            return source.charAt(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int startIndex, int endIndex) {
+            Objects.checkFromToIndex(startIndex, endIndex, end - start);
+            return new Slice(source, start + startIndex, start + endIndex);
+        }
+
+        @Override
+        public String toString() {
+            return source.subSequence(start, end).toString();
+        }
+    }
+}
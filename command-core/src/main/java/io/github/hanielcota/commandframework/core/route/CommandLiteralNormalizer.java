@@ -3,10 +3,96 @@ package io.github.hanielcota.commandframework.core.route;
 import java.util.Locale;
 import java.util.Objects;
 
+/**
+ * Normalizes command literals to their trimmed, lower-case form.
+ *
+ * <p>Besides {@link #normalize(String)}, the normalizer can hash and compare a
+ * raw {@link CharSequence} as if it had been normalized, without building the
+ * normalized copy. {@link LiteralTable} uses this to look up raw tokens.</p>
+ */
 public final class CommandLiteralNormalizer {
 
     public String normalize(String literal) {
         Objects.requireNonNull(literal, "literal");
         return literal.trim().toLowerCase(Locale.ROOT);
     }
+
+    /**
+     * Whether folding {@code literal} one char at a time gives the same result
+     * as {@link #normalize(String)}.
+     *
+     * <p>This is false only for the few characters whose lower-case form
+     * depends on context or expands ({@code U+0130}, {@code U+03A3}) and for
+     * surrogate pairs. Callers must fall back to {@link #normalize(String)}
+     * for those literals.</p>
+     */
+    public boolean isCharFoldable(CharSequence literal) {
+        Objects.requireNonNull(literal, "literal");
+        for (int index = 0; index < literal.length(); index++) {
+            char value = literal.charAt(index);
+            if (value == '\u0130' || value == '\u03A3' || Character.isSurrogate(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash of the normalized form of {@code literal} without
+     * building it. Equal for a raw literal and its normalized form when
+     * {@link #isCharFoldable(CharSequence)} holds.
+     */
+    public int foldedHash(CharSequence literal) {
+        Objects.requireNonNull(literal, "literal");
+        int start = trimStart(literal);
+        int end = trimEnd(literal, start);
+        int hash = 0;
+        for (int index = start; index < end; index++) {
+            hash = 31 * hash + fold(literal.charAt(index));
+        }
+        return hash;
+    }
+
+    /**
+     * Whether {@code literal} normalizes to {@code normalized}, compared char by
+     * char without building the normalized copy.
+     */
+    public boolean matchesNormalized(CharSequence literal, String normalized) {
+        Objects.requireNonNull(literal, "literal");
+        Objects.requireNonNull(normalized, "normalized");
+        int start = trimStart(literal);
+        int end = trimEnd(literal, start);
+        if (end - start != normalized.length()) {
+            return false;
+        }
+        for (int index = start; index < end; index++) {
+            if (fold(literal.charAt(index)) != fold(normalized.charAt(index - start))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int trimStart(CharSequence literal) {
+        int start = 0;
+        while (start < literal.length() && literal.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(CharSequence literal, int start) {
+        int end = literal.length();
+        while (end > start && literal.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private static char fold(char value) {
+        if (value < 0x80) {
+            return value >= 'A' && value <= 'Z' ? (char) (value + ('a' - 'A')) : value;
+        }
+        return Character.toLowerCase(value);
+    }
 }
@@ -0,0 +1,184 @@
+package io.github.hanielcota.commandframework.core.route;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable BK-tree over normalized literals for "did you mean" lookups.
+ *
+ * <p>Each lookup is bounded twice: by the maximum edit distance, which lets the
+ * tree skip every subtree the triangle inequality rules out, and by a visit
+ * budget, which caps the number of distance computations no matter how many
+ * literals the tree holds. When the budget runs out the best matches found so
+ * far are returned.</p>
+ */
+public final class LiteralBkTree {
+
+    private static final LiteralBkTree EMPTY = new LiteralBkTree(null, 0);
+
+    private final @Nullable Node root;
+    private final int size;
+
+    private LiteralBkTree(@Nullable Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /** Returns the shared empty tree. */
+    public static LiteralBkTree empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds a tree from normalized literals.
+     *
+     * @param literals the literals; duplicates are ignored
+     */
+    public static LiteralBkTree of(Collection<String> literals) {
+        Objects.requireNonNull(literals, "literals");
+        Node root = null;
+        int size = 0;
+        for (String literal : literals) {
+            Objects.requireNonNull(literal, "literal");
+            if (root == null) {
+                root = new Node(literal);
+                size++;
+            } else if (root.insert(literal)) {
+                size++;
+            }
+        }
+        return root == null ? EMPTY : new LiteralBkTree(root, size);
+    }
+
+    /** Returns the number of literals. */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns up to {@code limit} literals within {@code maxDistance} edits of
+     * {@code query}, closest first and then in natural order.
+     *
+     * @param query       a normalized literal; never {@code null}
+     * @param maxDistance the maximum edit distance, zero or positive
+     * @param limit       the maximum number of results, zero or positive
+     * @param visitBudget the maximum number of literals compared, positive
+     * @return a new list; never {@code null}
+     */
+    public List<String> nearest(String query, int maxDistance, int limit, int visitBudget) {
+        Objects.requireNonNull(query, "query");
+        if (maxDistance < 0 || limit < 0) {
+            throw new IllegalArgumentException("Invalid distance or limit: expected zero or positive");
+        }
+        if (visitBudget <= 0) {
+            throw new IllegalArgumentException("Invalid visit budget: expected positive");
+        }
+        if (root == null || limit == 0) {
+            return List.of();
+        }
+        List<Match> matches = new ArrayList<>();
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        int visits = 0;
+        while (!pending.isEmpty() && visits < visitBudget) {
+            Node node = pending.pop();
+            visits++;
+            int distance = distance(query, node.literal);
+            if (distance <= maxDistance) {
+                matches.add(new Match(node.literal, distance));
+            }
+            for (int index = 0; index < node.childCount; index++) {
+                if (Math.abs(node.distances[index] - distance) <= maxDistance) {
+                    pending.push(node.children[index]);
+                }
+            }
+        }
+        return matches.stream()
+                .sorted(Comparator.comparingInt(Match::distance).thenComparing(Match::literal))
+                .limit(limit)
+                .map(Match::literal)
+                .toList();
+    }
+
+    /** Returns the Levenshtein distance between two literals. */
+    static int distance(String left, String right) {
+        if (left.length() < right.length()) {
+            return distance(right, left);
+        }
+        int[] previous = new int[right.length() + 1];
+        int[] current = new int[right.length() + 1];
+        for (int column = 0; column <= right.length(); column++) {
+            previous[column] = column;
+        }
+        for (int row = 1; row <= left.length(); row++) {
+            current[0] = row;
+            char value = left.charAt(row - 1);
+            for (int column = 1; column <= right.length(); column++) {
+                int substitution = previous[column - 1] + (value == right.charAt(column - 1) ? 0 : 1);
+                current[column] = Math.min(substitution, Math.min(previous[column], current[column - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[right.length()];
+    }
+
+    private record Match(String literal, int distance) {
+    }
+
+    private static final class Node {
+
+        private final String literal;
+        private int[] distances = new int[0];
+        private Node[] children = new Node[0];
+        private int childCount;
+
+        private Node(String literal) {
+            this.literal = literal;
+        }
+
+        private boolean insert(String candidate) {
+            Node current = this;
+            while (true) {
+                int distance = distance(candidate, current.literal);
+                if (distance == 0) {
+                    return false;
+                }
+                Node next = current.child(distance);
+                if (next == null) {
+                    current.addChild(distance, new Node(candidate));
+                    return true;
+                }
+                current = next;
+            }
+        }
+
+        private @Nullable Node child(int distance) {
+            for (int index = 0; index < childCount; index++) {
+                if (distances[index] == distance) {
+                    return children[index];
+                }
+            }
+            return null;
+        }
+
+        private void addChild(int distance, Node child) {
+            if (childCount == children.length) {
+                int capacity = Math.max(2, childCount * 2);
+                distances = Arrays.copyOf(distances, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            distances[childCount] = distance;
+            children[childCount] = child;
+            childCount++;
+        }
+    }
+}
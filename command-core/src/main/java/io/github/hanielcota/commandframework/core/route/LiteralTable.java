@@ -0,0 +1,174 @@
+package io.github.hanielcota.commandframework.core.route;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable hash table keyed by normalized command literals.
+ *
+ * <p>Keys are normalized once when the table is built. Lookups accept the raw
+ * token and hash and compare it through {@link CommandLiteralNormalizer}, so
+ * a lookup never trims, lower-cases or copies the token. Tokens containing
+ * characters that cannot be folded one at a time fall back to
+ * {@link CommandLiteralNormalizer#normalize(String)}.</p>
+ *
+ * <p>Tables with at most {@value #LINEAR_LIMIT} entries skip hashing and keep
+ * their keys in exactly-sized arrays scanned linearly, which is both smaller
+ * and faster for the narrow nodes that make up most command trees.</p>
+ *
+ * @param <V> the value type
+ */
+public final class LiteralTable<V> {
+
+    private static final CommandLiteralNormalizer NORMALIZER = new CommandLiteralNormalizer();
+    private static final int LINEAR_LIMIT = 8;
+    private static final int[] NO_HASHES = new int[0];
+    private static final LiteralTable<?> EMPTY = new LiteralTable<>(new String[0], NO_HASHES, new Object[0], 0);
+
+    private final @Nullable String[] keys;
+    private final int[] hashes;
+    private final @Nullable Object[] values;
+    private final int mask;
+    private final int size;
+
+    private LiteralTable(@Nullable String[] keys, int[] hashes, @Nullable Object[] values, int size) {
+        this.keys = keys;
+        this.hashes = hashes;
+        this.values = values;
+        this.mask = keys.length - 1;
+        this.size = size;
+    }
+
+    /** Returns the shared empty table. */
+    @SuppressWarnings("unchecked")
+    public static <V> LiteralTable<V> empty() {
+        return (LiteralTable<V>) EMPTY;
+    }
+
+    /**
+     * Builds a table from entries whose keys are already normalized.
+     *
+     * @param entries normalized literal to value; never {@code null}
+     */
+    public static <V> LiteralTable<V> of(Map<String, ? extends V> entries) {
+        Objects.requireNonNull(entries, "entries");
+        if (entries.isEmpty()) {
+            return empty();
+        }
+        if (entries.size() <= LINEAR_LIMIT) {
+            return linear(entries);
+        }
+        int capacity = Integer.highestOneBit(Math.max(2, entries.size() * 2 - 1)) << 1;
+        String[] keys = new String[capacity];
+        int[] hashes = new int[capacity];
+        Object[] values = new Object[capacity];
+        int mask = capacity - 1;
+        entries.forEach((key, value) -> {
+            Objects.requireNonNull(key, "key");
+            Objects.requireNonNull(value, "value");
+            int hash = NORMALIZER.foldedHash(key);
+            int slot = spread(hash) & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            hashes[slot] = hash;
+            values[slot] = value;
+        });
+        return new LiteralTable<>(keys, hashes, values, entries.size());
+    }
+
+    private static <V> LiteralTable<V> linear(Map<String, ? extends V> entries) {
+        String[] keys = new String[entries.size()];
+        Object[] values = new Object[entries.size()];
+        int index = 0;
+        for (Map.Entry<String, ? extends V> entry : entries.entrySet()) {
+            keys[index] = Objects.requireNonNull(entry.getKey(), "key");
+            values[index] = Objects.requireNonNull(entry.getValue(), "value");
+            index++;
+        }
+        return new LiteralTable<>(keys, NO_HASHES, values, keys.length);
+    }
+
+    /**
+     * Looks up the value for a raw token, ignoring case and surrounding whitespace.
+     *
+     * @param literal the raw token; never {@code null}
+     * @return the value, or {@code null} when absent
+     */
+    public @Nullable V get(CharSequence literal) {
+        Objects.requireNonNull(literal, "literal");
+        if (size == 0) {
+            return null;
+        }
+        CharSequence key = NORMALIZER.isCharFoldable(literal) ? literal : NORMALIZER.normalize(literal.toString());
+        if (hashes == NO_HASHES) {
+            return scan(key);
+        }
+        return find(key, NORMALIZER.foldedHash(key));
+    }
+
+    /** Returns the number of entries. */
+    public int size() {
+        return size;
+    }
+
+    /** Whether the table has no entries. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Returns a new list with every normalized key, in no particular order. */
+    public List<String> keys() {
+        List<String> result = new ArrayList<>(size);
+        for (String key : keys) {
+            if (key != null) {
+                result.add(key);
+            }
+        }
+        return result;
+    }
+
+    /** Visits every entry in no particular order. */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<String, ? super V> action) {
+        Objects.requireNonNull(action, "action");
+        for (int slot = 0; slot < keys.length; slot++) {
+            String key = keys[slot];
+            if (key != null) {
+                action.accept(key, (V) values[slot]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable V scan(CharSequence literal) {
+        for (int index = 0; index < size; index++) {
+            if (NORMALIZER.matchesNormalized(literal, keys[index])) {
+                return (V) values[index];
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable V find(CharSequence literal, int hash) {
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            String key = keys[slot];
+            if (key == null) {
+                return null;
+            }
+            if (hashes[slot] == hash && NORMALIZER.matchesNormalized(literal, key)) {
+                return (V) values[slot];
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
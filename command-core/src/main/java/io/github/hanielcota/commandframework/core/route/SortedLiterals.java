@@ -0,0 +1,102 @@
+package io.github.hanielcota.commandframework.core.route;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable, sorted set of normalized literals answering prefix queries.
+ *
+ * <p>A prefix query runs two binary searches and returns a read-only view of
+ * the matching range, so suggestions cost {@code O(log n)} plus whatever the
+ * caller reads, with no filtering, sorting or copying per call.</p>
+ */
+public final class SortedLiterals {
+
+    private static final SortedLiterals EMPTY = new SortedLiterals(List.of());
+
+    private final List<String> sorted;
+
+    private SortedLiterals(List<String> sorted) {
+        this.sorted = sorted;
+    }
+
+    /** Returns the shared empty index. */
+    public static SortedLiterals empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds an index from normalized literals.
+     *
+     * @param literals the literals; duplicates are removed
+     */
+    public static SortedLiterals of(Collection<String> literals) {
+        Objects.requireNonNull(literals, "literals");
+        if (literals.isEmpty()) {
+            return EMPTY;
+        }
+        List<String> sorted = literals.stream().map(literal -> Objects.requireNonNull(literal, "literal"))
+                .distinct()
+                .sorted()
+                .toList();
+        return new SortedLiterals(sorted);
+    }
+
+    /** Returns every literal in natural order. */
+    public List<String> all() {
+        return sorted;
+    }
+
+    /** Returns the number of literals. */
+    public int size() {
+        return sorted.size();
+    }
+
+    /**
+     * Returns the literals starting with {@code prefix}, in natural order.
+     *
+     * @param prefix a normalized prefix; never {@code null}
+     * @return a read-only view; never {@code null}
+     */
+    public List<String> startingWith(String prefix) {
+        return startingWith(prefix, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns at most {@code limit} literals starting with {@code prefix}.
+     *
+     * @param prefix a normalized prefix; never {@code null}
+     * @param limit  the maximum number of results, zero or positive
+     * @return a read-only view; never {@code null}
+     */
+    public List<String> startingWith(String prefix, int limit) {
+        Objects.requireNonNull(prefix, "prefix");
+        if (limit < 0) {
+            throw new IllegalArgumentException("Invalid limit: expected zero or positive");
+        }
+        int from = lowerBound(prefix);
+        int to = upperBound(prefix, from);
+        return sorted.subList(from, (int) Math.min(to, (long) from + limit));
+    }
+
+    private int lowerBound(String prefix) {
+        int index = Collections.binarySearch(sorted, prefix);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private int upperBound(String prefix, int from) {
+        int low = from;
+        int high = sorted.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted.get(middle).startsWith(prefix)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
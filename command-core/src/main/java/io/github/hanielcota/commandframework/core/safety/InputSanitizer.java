@@ -1,5 +1,6 @@
 package io.github.hanielcota.commandframework.core.safety;
 
+import io.github.hanielcota.commandframework.core.route.CommandLineTokens;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -33,9 +34,29 @@ public record InputSanitizer(int maxArguments, int maxArgumentLength) {
         if (arguments.size() > maxArguments) {
             return SanitizedInput.invalid(String.valueOf(arguments.size()), "at most %d arguments".formatted(maxArguments));
         }
+        if (arguments instanceof CommandLineTokens tokens) {
+            return sanitizeTokens(tokens);
+        }
         return sanitizeValues(arguments);
     }
 
+    /**
+     * Checks tokenized input in place. Tokens without control characters are
+     * passed through as the same list, so none of them is copied into a string.
+     */
+    private SanitizedInput sanitizeTokens(CommandLineTokens tokens) {
+        for (int index = 0; index < tokens.size(); index++) {
+            CharSequence token = tokens.token(index);
+            if (token.length() > maxArgumentLength) {
+                return SanitizedInput.invalid(token.toString(), "argument with %d chars or less".formatted(maxArgumentLength));
+            }
+            if (containsControls(token)) {
+                return sanitizeValues(tokens);
+            }
+        }
+        return SanitizedInput.valid(tokens);
+    }
+
     private SanitizedInput sanitizeValues(List<String> arguments) {
         List<String> sanitized = new ArrayList<>(arguments.size());
         for (String argument : arguments) {
@@ -58,6 +79,15 @@ public record InputSanitizer(int maxArguments, int maxArgumentLength) {
         return SanitizedInput.valid(sanitized);
     }
 
+    private boolean containsControls(CharSequence argument) {
+        for (int index = 0; index < argument.length(); index++) {
+            if (Character.isISOControl(argument.charAt(index))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private String stripControls(String argument) {
         StringBuilder builder = new StringBuilder(argument.length());
         for (int index = 0; index < argument.length(); index++) {
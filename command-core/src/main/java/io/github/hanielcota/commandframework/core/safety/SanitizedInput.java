@@ -1,5 +1,6 @@
 package io.github.hanielcota.commandframework.core.safety;
 
+import io.github.hanielcota.commandframework.core.route.CommandLineTokens;
 import java.util.List;
 import java.util.Objects;
 
@@ -7,7 +8,7 @@ public record SanitizedInput(List<String> arguments, String invalidValue, String
 
     public SanitizedInput(List<String> arguments, String invalidValue, String expectedValue, boolean valid) {
         Objects.requireNonNull(arguments, "arguments");
-        this.arguments = List.copyOf(arguments);
+        this.arguments = arguments instanceof CommandLineTokens ? arguments : List.copyOf(arguments);
         this.invalidValue = Objects.requireNonNull(invalidValue, "invalidValue");
         this.expectedValue = Objects.requireNonNull(expectedValue, "expectedValue");
         this.valid = valid;
@@ -1,6 +1,7 @@
 package io.github.hanielcota.commandframework.core.suggestion;
 
 import io.github.hanielcota.commandframework.core.*;
+import io.github.hanielcota.commandframework.core.route.CommandLineTokens;
 import io.github.hanielcota.commandframework.core.route.CommandLiteralNormalizer;
 import java.util.List;
 import java.util.Objects;
@@ -25,7 +26,7 @@ public record CommandSuggestionEngine(RouteResolver resolver) {
     public List<String> suggest(CommandActor actor, String label, List<String> arguments) {
         CommandActor checkedActor = Objects.requireNonNull(actor, "actor");
         String checkedLabel = Objects.requireNonNull(label, "label");
-        List<String> checkedArguments = List.copyOf(arguments);
+        List<String> checkedArguments = arguments instanceof CommandLineTokens ? arguments : List.copyOf(arguments);
         if (checkedLabel.isBlank()) {
             return resolver.rootSuggestions("");
         }
@@ -62,7 +63,7 @@ public record CommandSuggestionEngine(RouteResolver resolver) {
     private Optional<CommandNode> parentNode(CommandRoot root, List<String> arguments) {
         CommandNode current = root.node();
         for (int index = 0; index < arguments.size() - 1; index++) {
-            Optional<CommandNode> child = current.child(NORMALIZER.normalize(arguments.get(index)));
+            Optional<CommandNode> child = current.child(arguments.get(index));
             if (child.isEmpty()) {
                 return Optional.empty();
             }
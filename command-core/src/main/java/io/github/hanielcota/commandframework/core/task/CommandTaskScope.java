@@ -0,0 +1,153 @@
+package io.github.hanielcota.commandframework.core.task;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The lifetime of one async command and the subtasks it starts.
+ *
+ * <p>The dispatcher opens a scope around every async command and binds it as
+ * {@link #current()} on the command's thread. Work the command forks through
+ * {@link #fork(Callable)} runs on its own thread with the same scope bound, so
+ * nested forks belong to it too. When the command passes its
+ * {@linkplain io.github.hanielcota.commandframework.core.CommandRoute#timeout()
+ * deadline} the scope is {@linkplain #cancel() cancelled}, which interrupts
+ * every unfinished fork; when the command returns the scope is closed and
+ * forks still running are cancelled the same way, so no subtask outlives the
+ * command that started it.</p>
+ *
+ * <p>This is a small stand-in for {@code StructuredTaskScope}, which is a
+ * preview API on the Java 21 baseline.</p>
+ */
+public final class CommandTaskScope implements AutoCloseable {
+
+    private static final ThreadLocal<@Nullable CommandTaskScope> CURRENT = new ThreadLocal<>();
+
+    private final ThreadFactory threads;
+    private final Set<Future<?>> forks = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled;
+    private volatile boolean closed;
+
+    /** Creates a scope whose forks run on virtual threads. */
+    public CommandTaskScope() {
+        this(Thread.ofVirtual().name("command-task-", 0).factory());
+    }
+
+    /**
+     * Creates a scope whose forks run on threads from {@code threads}.
+     *
+     * @param threads creates one thread per fork; never {@code null}
+     */
+    public CommandTaskScope(ThreadFactory threads) {
+        this.threads = Objects.requireNonNull(threads, "threads");
+    }
+
+    /** Returns the scope bound to the calling thread, if it runs inside one. */
+    public static Optional<CommandTaskScope> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Starts {@code task} on a new thread owned by this scope.
+     *
+     * @param task the subtask; never {@code null}
+     * @return the subtask's future, cancelled with the scope
+     * @throws IllegalStateException if the scope is closed or cancelled
+     */
+    public <T> Future<T> fork(Callable<T> task) {
+        Objects.requireNonNull(task, "task");
+        if (closed || cancelled) {
+            throw new IllegalStateException("Invalid fork: expected an open task scope");
+        }
+        Fork<T> fork = new Fork<>(() -> call(task));
+        forks.add(fork);
+        if (closed || cancelled) {
+            // Lost a race with close() or cancel(), which may not have seen this fork.
+            fork.cancel(true);
+        }
+        threads.newThread(fork).start();
+        return fork;
+    }
+
+    /**
+     * Runs {@code action} on the calling thread with this scope bound as
+     * {@link #current()}, restoring the previous binding afterwards.
+     */
+    public <T> T run(Supplier<T> action) {
+        Objects.requireNonNull(action, "action");
+        CommandTaskScope previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /** Cancels the scope, interrupting every unfinished fork. */
+    public void cancel() {
+        cancelled = true;
+        cancelForks();
+    }
+
+    /** Whether the scope was cancelled, typically because its command timed out. */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Returns the number of forks that have not finished yet. */
+    public int pendingForks() {
+        return forks.size();
+    }
+
+    /** Closes the scope: no more forks are accepted and unfinished ones are cancelled. */
+    @Override
+    public void close() {
+        closed = true;
+        cancelForks();
+    }
+
+    private void cancelForks() {
+        for (Future<?> fork : forks) {
+            fork.cancel(true);
+        }
+    }
+
+    private <T> T call(Callable<T> task) throws Exception {
+        CommandTaskScope previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return task.call();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    private static void restore(@Nullable CommandTaskScope previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    private final class Fork<T> extends FutureTask<T> {
+
+        private Fork(Callable<T> callable) {
+            super(callable);
+        }
+
+        @Override
+        protected void done() {
+            forks.remove(this);
+        }
+    }
+}
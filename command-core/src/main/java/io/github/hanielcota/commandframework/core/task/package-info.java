@@ -0,0 +1,4 @@
+@NullMarked
+package io.github.hanielcota.commandframework.core.task;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,212 @@
+package io.github.hanielcota.commandframework.core.watchdog;
+
+import io.github.hanielcota.commandframework.core.CommandLogger;
+import io.github.hanielcota.commandframework.core.safety.SafeLogText;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Reports synchronous commands that run past a time budget.
+ *
+ * <p>The dispatcher {@linkplain #watch(String, String) arms a watch} on the
+ * dispatching thread before a synchronous route's pipeline runs and closes it
+ * afterwards. A watch still open when the budget runs out has its thread's
+ * stack sampled from the monitor scheduler a few times, and one warning is
+ * logged with the route, actor, elapsed time and the frames seen in the most
+ * samples, leaf-most first. The route and actor are cleaned of control
+ * characters, since both come from user input. Each route is reported once, so
+ * a command that is always slow does not flood the log.</p>
+ *
+ * <p>On a platform whose commands run on the main thread, this points at the
+ * command behind a lag spike without attaching a profiler.</p>
+ */
+public final class SlowCommandWatchdog {
+
+    /** The most frames of each sampled stack that are considered. */
+    public static final int STACK_DEPTH = 32;
+    /** The most hot frames one warning lists. */
+    public static final int HOT_FRAMES = 8;
+
+    private final long budgetNanos;
+    private final int samples;
+    private final long intervalNanos;
+    private final ScheduledExecutorService monitor;
+    private final CommandLogger logger;
+    private final SafeLogText safeLogText = new SafeLogText();
+    private final Set<String> reported = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a watchdog.
+     *
+     * @param budget         how long a command may run before it is sampled, positive
+     * @param samples        how many stacks are taken from a slow command, positive
+     * @param sampleInterval the pause between two samples, zero or positive
+     * @param monitor        where budgets expire and samples are taken
+     * @param logger         where slow commands are reported
+     */
+    public SlowCommandWatchdog(
+            Duration budget,
+            int samples,
+            Duration sampleInterval,
+            ScheduledExecutorService monitor,
+            CommandLogger logger) {
+        Objects.requireNonNull(budget, "budget");
+        Objects.requireNonNull(sampleInterval, "sampleInterval");
+        if (budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("Invalid slow command budget: expected positive");
+        }
+        if (samples < 1) {
+            throw new IllegalArgumentException("Invalid stack samples: expected at least one");
+        }
+        if (sampleInterval.isNegative()) {
+            throw new IllegalArgumentException("Invalid sample interval: expected zero or positive");
+        }
+        this.budgetNanos = budget.toNanos();
+        this.samples = samples;
+        this.intervalNanos = sampleInterval.toNanos();
+        this.monitor = Objects.requireNonNull(monitor, "monitor");
+        this.logger = Objects.requireNonNull(logger, "logger");
+    }
+
+    /**
+     * Starts watching the calling thread.
+     *
+     * @param route the canonical path of the route about to run; never {@code null}
+     * @param actor the actor running it; never {@code null}
+     * @return the watch, to be closed when the command returns
+     */
+    public Watch watch(String route, String actor) {
+        Watch watch = new Watch(Thread.currentThread(),
+                Objects.requireNonNull(route, "route"), Objects.requireNonNull(actor, "actor"), System.nanoTime());
+        watch.trigger = schedule(watch, budgetNanos);
+        return watch;
+    }
+
+    /** Whether {@code route} was already reported as slow. */
+    public boolean reported(String route) {
+        return reported.contains(Objects.requireNonNull(route, "route"));
+    }
+
+    private @Nullable ScheduledFuture<?> schedule(Watch watch, long delayNanos) {
+        try {
+            return monitor.schedule(watch::sample, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException exception) {
+            logger.debug("Slow command monitor refused a watch: route=%s, reason=%s",
+                    safeLogText.clean(watch.route), exception.getMessage());
+            return null;
+        }
+    }
+
+    private static String hotFrames(List<StackTraceElement[]> stacks) {
+        Map<StackTraceElement, HotFrame> frames = new LinkedHashMap<>();
+        for (StackTraceElement[] stack : stacks) {
+            Set<StackTraceElement> seen = new HashSet<>();
+            for (int depth = 0; depth < Math.min(stack.length, STACK_DEPTH); depth++) {
+                StackTraceElement element = stack[depth];
+                if (seen.add(element)) {
+                    HotFrame frame = frames.get(element);
+                    if (frame == null) {
+                        frame = new HotFrame(element, depth);
+                        frames.put(element, frame);
+                    }
+                    frame.count++;
+                }
+            }
+        }
+        StringBuilder text = new StringBuilder();
+        frames.values().stream()
+                .sorted(Comparator.comparingInt((HotFrame frame) -> -frame.count).thenComparingInt(frame -> frame.depth))
+                .limit(HOT_FRAMES)
+                .forEach(frame -> text.append("\n    at ").append(frame.element)
+                        .append(" (").append(frame.count).append('/').append(stacks.size()).append(')'));
+        return text.toString();
+    }
+
+    /** One armed budget; {@linkplain #close() close} it when the command returns. */
+    public final class Watch implements AutoCloseable {
+
+        private final Thread thread;
+        private final String route;
+        private final String actor;
+        private final long startNanos;
+        // Only the monitor touches the stacks; each sample schedules the next one.
+        private final List<StackTraceElement[]> stacks = new ArrayList<>();
+        private long sampledNanos;
+        private volatile @Nullable ScheduledFuture<?> trigger;
+        private volatile boolean closed;
+
+        private Watch(Thread thread, String route, String actor, long startNanos) {
+            this.thread = thread;
+            this.route = route;
+            this.actor = actor;
+            this.startNanos = startNanos;
+        }
+
+        /** Stops watching; samples already taken are still reported. */
+        @Override
+        public void close() {
+            closed = true;
+            ScheduledFuture<?> pending = trigger;
+            if (pending != null) {
+                pending.cancel(false);
+            }
+        }
+
+        private void sample() {
+            if (closed) {
+                report();
+                return;
+            }
+            StackTraceElement[] stack = thread.getStackTrace();
+            if (closed) {
+                // The thread may already be running something else.
+                report();
+                return;
+            }
+            if (stacks.isEmpty() && !reported.add(route)) {
+                return;
+            }
+            stacks.add(stack);
+            sampledNanos = System.nanoTime();
+            if (stacks.size() >= samples || schedule(this, intervalNanos) == null) {
+                report();
+            }
+        }
+
+        private void report() {
+            if (stacks.isEmpty()) {
+                return;
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(sampledNanos - startNanos);
+            logger.warn("Slow command: route=" + safeLogText.clean(route) + ", actor=" + safeLogText.clean(actor) + ", elapsed>=" + elapsedMillis
+                    + "ms, budget=" + TimeUnit.NANOSECONDS.toMillis(budgetNanos) + "ms, samples=" + stacks.size()
+                    + ", hot frames:" + hotFrames(stacks), null);
+            stacks.clear();
+        }
+    }
+
+    private static final class HotFrame {
+
+        private final StackTraceElement element;
+        private final int depth;
+        private int count;
+
+        private HotFrame(StackTraceElement element, int depth) {
+            this.element = element;
+            this.depth = depth;
+        }
+    }
+}
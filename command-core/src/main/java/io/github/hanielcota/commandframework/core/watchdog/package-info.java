@@ -0,0 +1,4 @@
+@NullMarked
+package io.github.hanielcota.commandframework.core.watchdog;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,113 @@
+package io.github.hanielcota.commandframework.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.hanielcota.commandframework.core.argument.SingleArgumentParameterResolver;
+import io.github.hanielcota.commandframework.core.argument.StringArgumentResolver;
+import io.github.hanielcota.commandframework.core.route.CommandLineTokens;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+final class CommandContextTest {
+
+    private final CommandParameter<String> target = parameter("target");
+    private final CommandParameter<String> kit = parameter("kit");
+    private final CommandRoute route = CommandRoute.builder("kit", (context, parameters) -> CommandResult.success())
+            .parameters(List.of(target, kit))
+            .build();
+
+    @Test
+    void attachesParametersToANewContextByPosition() {
+        CommandContext context = new CommandContext(new TestActor(ActorKind.PLAYER), route, "kit", List.of("Steve", "pvp"));
+        assertTrue(context.parsedParameters().isEmpty());
+        int hash = context.hashCode();
+
+        List<ParsedParameter<?>> parsed = List.of(new ParsedParameter<>(target, "Steve"), new ParsedParameter<>(kit, "pvp"));
+        CommandContext withParameters = context.withParsedParameters(parsed);
+
+        assertNotSame(context, withParameters);
+        assertTrue(withParameters.parsedParameters() instanceof ParsedParameters);
+        assertEquals("Steve", withParameters.parsedParameter("target").orElseThrow().value());
+        assertEquals("pvp", withParameters.parsedParameter(1).orElseThrow().value());
+        assertTrue(withParameters.parsedParameter("missing").isEmpty());
+        assertEquals(Map.of("target", parsed.get(0), "kit", parsed.get(1)), withParameters.parsedParameters());
+        assertTrue(context.parsedParameters().isEmpty());
+        assertEquals(hash, context.hashCode());
+    }
+
+    @Test
+    void sharesEmptyParametersUntilParsed() {
+        CommandContext context = new CommandContext(new TestActor(ActorKind.PLAYER), route, "kit", List.of());
+        CommandRoute bare = CommandRoute.builder("ping", (ctx, parameters) -> CommandResult.success()).build();
+        CommandContext unparsed = new CommandContext(new TestActor(ActorKind.PLAYER), bare, "ping", List.of());
+
+        assertSame(ParsedParameters.empty(), context.parsedParameters());
+        assertTrue(context.parsedParameter(1).isEmpty());
+        assertSame(unparsed, unparsed.withParsedParameters(List.of()));
+    }
+
+    @Test
+    void keepsPartialParameterListsByName() {
+        CommandContext context = new CommandContext(new TestActor(ActorKind.PLAYER), route, "kit", List.of());
+
+        CommandContext partial = context.withParsedParameters(List.of(new ParsedParameter<>(kit, "pvp")));
+
+        assertEquals("pvp", partial.parsedParameter("kit").orElseThrow().value());
+        assertEquals("pvp", partial.parsedParameter(1).orElseThrow().value());
+        assertTrue(partial.parsedParameter("target").isEmpty());
+    }
+
+    @Test
+    void copiesViewsOverListsTheCallerCanStillModify() {
+        List<String> tokens = new ArrayList<>(List.of("Steve", "pvp"));
+        CommandContext context = new CommandContext(new TestActor(ActorKind.PLAYER), route, "kit", ArgumentView.of(tokens, 0));
+        tokens.set(0, "Alex");
+
+        assertEquals(List.of("Steve", "pvp"), context.arguments());
+    }
+
+    @Test
+    void keepsViewsOverTokenizedInput() {
+        ArgumentView view = ArgumentView.of(CommandLineTokens.tokenize("kit Steve pvp"), 1);
+
+        CommandContext context = new CommandContext(new TestActor(ActorKind.PLAYER), route, "kit", view);
+
+        assertSame(view, context.arguments());
+    }
+
+    @Test
+    void keepsViewsOverItsOwnCopies() {
+        CommandContext context = new CommandContext(new TestActor(ActorKind.PLAYER), route, "kit", List.of("Steve", "pvp"));
+        List<String> view = ArgumentView.of(context.arguments(), 1);
+
+        CommandContext next = new CommandContext(new TestActor(ActorKind.PLAYER), route, "kit", view);
+
+        assertSame(view, next.arguments());
+    }
+
+    @Test
+    void rejectsNullTokensEvenInUnmodifiableLists() {
+        List<String> tokens = Stream.of("Steve", (String) null).toList();
+
+        assertThrows(NullPointerException.class,
+                () -> new CommandContext(new TestActor(ActorKind.PLAYER), route, "kit", ArgumentView.of(tokens, 0)));
+    }
+
+    @Test
+    void indexesParametersByNameOncePerRoute() {
+        assertEquals(0, route.parameterIndex("target"));
+        assertEquals(1, route.parameterIndex("kit"));
+        assertEquals(-1, route.parameterIndex("missing"));
+    }
+
+    private static CommandParameter<String> parameter(String name) {
+        return new CommandParameter<>(name, String.class, new SingleArgumentParameterResolver<>(new StringArgumentResolver()), true);
+    }
+}
@@ -0,0 +1,330 @@
+package io.github.hanielcota.commandframework.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.hanielcota.commandframework.core.argument.SingleArgumentParameterResolver;
+import io.github.hanielcota.commandframework.core.argument.StringArgumentResolver;
+import io.github.hanielcota.commandframework.core.bulkhead.RejectionPolicy;
+import io.github.hanielcota.commandframework.core.task.CommandTaskScope;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+final class CommandDispatcherAsyncTest {
+
+    @Test
+    void completesAsyncDispatchWhenThePipelineFinishes() {
+        QueuedExecutor executor = new QueuedExecutor();
+        CommandDispatcher dispatcher = CommandDispatcher.builder().asyncExecutor(executor).build();
+        dispatcher.register(CommandRoute.builder("backup", (context, parameters) -> CommandResult.failure(CommandStatus.FAILURE))
+                .async(true)
+                .build());
+
+        CompletableFuture<CommandResult> result = dispatcher.dispatchAsync(new TestActor(ActorKind.CONSOLE), "backup").toCompletableFuture();
+        assertFalse(result.isDone());
+
+        executor.runAll();
+        assertEquals(CommandStatus.FAILURE, result.join().status());
+    }
+
+    @Test
+    void completesSyncDispatchImmediately() {
+        CommandDispatcher dispatcher = CommandDispatcher.builder().asyncExecutor(new QueuedExecutor()).build();
+        dispatcher.register(CommandRoute.builder("ping", (context, parameters) -> CommandResult.success()).build());
+
+        CompletableFuture<CommandResult> result = dispatcher.dispatchAsync(new TestActor(ActorKind.CONSOLE), "ping", List.of()).toCompletableFuture();
+
+        assertTrue(result.isDone());
+        assertEquals(CommandStatus.SUCCESS, result.join().status());
+    }
+
+    @Test
+    void plainDispatchStillReturnsAcceptedForAsyncRoutes() {
+        QueuedExecutor executor = new QueuedExecutor();
+        CommandDispatcher dispatcher = CommandDispatcher.builder().asyncExecutor(executor).build();
+        dispatcher.register(CommandRoute.builder("backup", (context, parameters) -> CommandResult.success()).async(true).build());
+
+        assertEquals(CommandStatus.ACCEPTED, dispatcher.dispatch(new TestActor(ActorKind.CONSOLE), "backup").status());
+        assertEquals(1, executor.tasks.size());
+    }
+
+    @Test
+    void runsAsyncRoutesOnTheArgumentsAsDispatched() {
+        QueuedExecutor executor = new QueuedExecutor();
+        CommandDispatcher dispatcher = CommandDispatcher.builder().asyncExecutor(executor).build();
+        AtomicReference<Object> seen = new AtomicReference<>();
+        CommandParameter<String> world = new CommandParameter<>(
+                "world", String.class, new SingleArgumentParameterResolver<>(new StringArgumentResolver()), true);
+        dispatcher.register(CommandRoute.builder("backup", (context, parameters) -> {
+            seen.set(parameters.get(0).value());
+            return CommandResult.success();
+        }).parameters(List.of(world)).async(true).build());
+        List<String> arguments = Arrays.asList("world");
+
+        dispatcher.dispatchAsync(new TestActor(ActorKind.CONSOLE), "backup", arguments);
+        arguments.set(0, "nether");
+        executor.runAll();
+
+        assertEquals("world", seen.get());
+    }
+
+    @Test
+    void answersServerBusyWhenTheBulkheadIsFull() {
+        QueuedExecutor executor = new QueuedExecutor();
+        CommandDispatcher dispatcher = CommandDispatcher.builder()
+                .asyncExecutor(executor)
+                .bulkhead("economy", 1, 0, RejectionPolicy.REJECT)
+                .build();
+        dispatcher.register(CommandRoute.builder("pay", (context, parameters) -> CommandResult.success())
+                .async(true)
+                .bulkhead("economy")
+                .build());
+        TestActor actor = new TestActor(ActorKind.CONSOLE);
+
+        CompletableFuture<CommandResult> first = dispatcher.dispatchAsync(actor, "pay").toCompletableFuture();
+        CommandResult second = dispatcher.dispatch(actor, "pay");
+
+        assertEquals(CommandStatus.BUSY, second.status());
+        assertEquals(1, actor.messages().size());
+        executor.runAll();
+        assertEquals(CommandStatus.SUCCESS, first.join().status());
+    }
+
+    @Test
+    void rejectsRoutesNamingAnUnknownBulkhead() {
+        CommandDispatcher dispatcher = CommandDispatcher.builder().build();
+        CommandRoute route = CommandRoute.builder("pay", (context, parameters) -> CommandResult.success())
+                .async(true)
+                .bulkhead("economy")
+                .build();
+
+        assertThrows(RouteConfigurationException.class, () -> dispatcher.register(route));
+        assertTrue(dispatcher.root("pay").isEmpty());
+    }
+
+    @Test
+    void refusesAsyncCommandsOverTheActorInFlightLimit() {
+        QueuedExecutor executor = new QueuedExecutor();
+        CommandDispatcher dispatcher = CommandDispatcher.builder().asyncExecutor(executor).inFlightLimit(1, 0).build();
+        dispatcher.register(CommandRoute.builder("backup", (context, parameters) -> CommandResult.success()).async(true).build());
+        TestActor actor = new TestActor(ActorKind.CONSOLE);
+
+        assertEquals(CommandStatus.ACCEPTED, dispatcher.dispatch(actor, "backup").status());
+        assertEquals(CommandStatus.IN_FLIGHT_LIMITED, dispatcher.dispatch(actor, "backup").status());
+        assertEquals(CommandStatus.ACCEPTED, dispatcher.dispatch(new TestActor(ActorKind.PLAYER), "backup").status());
+
+        executor.runAll();
+
+        assertEquals(CommandStatus.ACCEPTED, dispatcher.dispatch(actor, "backup").status());
+    }
+
+    @Test
+    void runsEachActorsAsyncCommandsInSubmissionOrder() {
+        QueuedExecutor executor = new QueuedExecutor();
+        List<String> ran = new ArrayList<>();
+        CommandDispatcher dispatcher = CommandDispatcher.builder().asyncExecutor(executor).actorMailboxes(8).build();
+        for (String label : List.of("deposit", "withdraw")) {
+            dispatcher.register(CommandRoute.builder(label, (context, parameters) -> {
+                        ran.add(label);
+                        return CommandResult.success();
+                    })
+                    .async(true)
+                    .build());
+        }
+        TestActor actor = new TestActor(ActorKind.PLAYER);
+
+        CompletableFuture<CommandResult> first = dispatcher.dispatchAsync(actor, "withdraw").toCompletableFuture();
+        CompletableFuture<CommandResult> second = dispatcher.dispatchAsync(actor, "deposit").toCompletableFuture();
+
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+        assertEquals(List.of("withdraw", "deposit"), ran);
+        assertEquals(CommandStatus.SUCCESS, first.join().status());
+        assertEquals(CommandStatus.SUCCESS, second.join().status());
+    }
+
+    @Test
+    void interruptsCommandsAndTheirForksPastTheirTimeout() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AtomicReference<Future<?>> child = new AtomicReference<>();
+        CommandDispatcher dispatcher = CommandDispatcher.builder().virtualThreads(true).build();
+        dispatcher.register(CommandRoute.builder("backup", (context, parameters) -> {
+                    child.set(CommandTaskScope.current().orElseThrow().fork(() -> {
+                        Thread.sleep(10_000);
+                        return null;
+                    }));
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException exception) {
+                        interrupted.countDown();
+                    }
+                    return CommandResult.success();
+                })
+                .async(true)
+                .timeout(Duration.ofMillis(50))
+                .build());
+        TestActor actor = new TestActor(ActorKind.CONSOLE);
+
+        CommandResult result = dispatcher.dispatchAsync(actor, "backup").toCompletableFuture().orTimeout(5, TimeUnit.SECONDS).join();
+
+        assertEquals(CommandStatus.TIMEOUT, result.status());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertTrue(child.get().isCancelled());
+        assertEquals(1, actor.messages().size());
+    }
+
+    @Test
+    void neverInterruptsTheDispatchingThread() {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CommandDispatcher dispatcher = CommandDispatcher.builder().asyncExecutor(Runnable::run).build();
+        dispatcher.register(CommandRoute.builder("backup", (context, parameters) -> {
+                    try {
+                        Thread.sleep(200);
+                    } catch (InterruptedException exception) {
+                        interrupted.set(true);
+                    }
+                    return CommandResult.success();
+                })
+                .async(true)
+                .timeout(Duration.ofMillis(20))
+                .build());
+
+        CommandResult result = dispatcher.dispatchAsync(new TestActor(ActorKind.CONSOLE), "backup").toCompletableFuture().join();
+
+        assertEquals(CommandStatus.TIMEOUT, result.status());
+        assertFalse(interrupted.get());
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    void keepsTheCallersInterruptFlag() {
+        CommandDispatcher dispatcher = CommandDispatcher.builder().asyncExecutor(Runnable::run).build();
+        dispatcher.register(CommandRoute.builder("backup", (context, parameters) -> CommandResult.success()).async(true).build());
+
+        Thread.currentThread().interrupt();
+        dispatcher.dispatch(new TestActor(ActorKind.CONSOLE), "backup");
+
+        assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    void rejectsTimeoutsInCallerRunsBulkheads() {
+        CommandDispatcher dispatcher = CommandDispatcher.builder()
+                .bulkhead("economy", 1, 0, RejectionPolicy.CALLER_RUNS)
+                .build();
+        CommandRoute route = CommandRoute.builder("pay", (context, parameters) -> CommandResult.success())
+                .async(true)
+                .bulkhead("economy")
+                .timeout(Duration.ofSeconds(1))
+                .build();
+
+        assertThrows(RouteConfigurationException.class, () -> dispatcher.register(route));
+    }
+
+    @Test
+    void rejectsTimeoutsThatWouldRunOnTheDispatchingThread() {
+        CommandDispatcher inline = CommandDispatcher.builder().build();
+        CommandRoute sync = CommandRoute.builder("save", (context, parameters) -> CommandResult.success())
+                .timeout(Duration.ofSeconds(1))
+                .build();
+        CommandRoute async = CommandRoute.builder("backup", (context, parameters) -> CommandResult.success())
+                .async(true)
+                .timeout(Duration.ofSeconds(1))
+                .build();
+
+        assertThrows(RouteConfigurationException.class, () -> inline.register(sync));
+        assertThrows(RouteConfigurationException.class, () -> inline.register(async));
+        assertThrows(RouteConfigurationException.class,
+                () -> CommandDispatcher.builder().asyncExecutor(new QueuedExecutor()).build().register(sync));
+    }
+
+    @Test
+    void closesOnlyTheDeadlineSchedulerItStarted() {
+        ScheduledThreadPoolExecutor provided = new ScheduledThreadPoolExecutor(1);
+        try {
+            CommandDispatcher dispatcher = CommandDispatcher.builder()
+                    .asyncExecutor(new QueuedExecutor())
+                    .deadlineScheduler(provided)
+                    .build();
+            dispatcher.register(timedBackup());
+
+            dispatcher.close();
+
+            assertFalse(provided.isShutdown());
+        } finally {
+            provided.shutdownNow();
+        }
+    }
+
+    @Test
+    void keepsDispatchingWithoutDeadlinesAfterClose() {
+        QueuedExecutor executor = new QueuedExecutor();
+        CommandDispatcher dispatcher = CommandDispatcher.builder().asyncExecutor(executor).build();
+        dispatcher.register(timedBackup());
+
+        dispatcher.close();
+        CompletableFuture<CommandResult> result = dispatcher.dispatchAsync(new TestActor(ActorKind.CONSOLE), "backup").toCompletableFuture();
+        executor.runAll();
+
+        assertEquals(CommandStatus.SUCCESS, result.join().status());
+    }
+
+    @Test
+    void skipsQueuedCommandsThatAlreadyTimedOut() {
+        QueuedExecutor executor = new QueuedExecutor();
+        AtomicBoolean ran = new AtomicBoolean();
+        CommandDispatcher dispatcher = CommandDispatcher.builder().asyncExecutor(executor).build();
+        dispatcher.register(CommandRoute.builder("backup", (context, parameters) -> {
+                    ran.set(true);
+                    return CommandResult.success();
+                })
+                .async(true)
+                .timeout(Duration.ofMillis(1))
+                .build());
+
+        CommandResult result = dispatcher.dispatchAsync(new TestActor(ActorKind.CONSOLE), "backup").toCompletableFuture().orTimeout(5, TimeUnit.SECONDS).join();
+        executor.runAll();
+
+        assertEquals(CommandStatus.TIMEOUT, result.status());
+        assertFalse(ran.get());
+    }
+
+    private static CommandRoute timedBackup() {
+        return CommandRoute.builder("backup", (context, parameters) -> CommandResult.success())
+                .async(true)
+                .timeout(Duration.ofSeconds(30))
+                .build();
+    }
+
+    static final class QueuedExecutor implements Executor {
+
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.hanielcota.commandframework.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.hanielcota.commandframework.core.rate.DispatchThrottle;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+final class CommandDispatcherBatchTest {
+
+    @Test
+    void returnsOneResultPerInvocationInOrder() {
+        CommandDispatcherAsyncTest.QueuedExecutor executor = new CommandDispatcherAsyncTest.QueuedExecutor();
+        CommandDispatcher dispatcher = CommandDispatcher.builder().asyncExecutor(executor).build();
+        dispatcher.register(CommandRoute.builder("ping", (context, parameters) -> CommandResult.success()).build());
+        dispatcher.register(CommandRoute.builder("backup", (context, parameters) -> CommandResult.failure(CommandStatus.FAILURE))
+                .async(true)
+                .build());
+
+        CompletableFuture<List<CommandResult>> results = dispatcher.dispatchBatch(new TestActor(ActorKind.CONSOLE), List.of(
+                CommandInvocation.parse("backup"),
+                CommandInvocation.parse("ping"),
+                new CommandInvocation("missing", List.of()))).toCompletableFuture();
+
+        assertFalse(results.isDone());
+        executor.runAll();
+        assertEquals(
+                List.of(CommandStatus.FAILURE, CommandStatus.SUCCESS, CommandStatus.NOT_FOUND),
+                results.join().stream().map(CommandResult::status).toList());
+    }
+
+    @Test
+    void claimsOneThrottlePermitPerInvocation() {
+        CommandDispatcher dispatcher = CommandDispatcher.builder()
+                .throttle(new DispatchThrottle(2, Duration.ofMinutes(1)))
+                .build();
+        dispatcher.register(CommandRoute.builder("ping", (context, parameters) -> CommandResult.success()).build());
+        TestActor actor = new TestActor(ActorKind.CONSOLE);
+        List<CommandInvocation> batch = List.of(CommandInvocation.parse("ping"), CommandInvocation.parse("ping"), CommandInvocation.parse("ping"));
+
+        List<CommandResult> results = dispatcher.dispatchBatch(actor, batch).toCompletableFuture().join();
+
+        assertEquals(
+                List.of(CommandStatus.SUCCESS, CommandStatus.SUCCESS, CommandStatus.RATE_LIMITED),
+                results.stream().map(CommandResult::status).toList());
+        assertEquals(1, actor.messages().size());
+    }
+
+    @Test
+    void leavesThrottlePermitsOfInvalidInvocationsToTheRest() {
+        CommandDispatcher dispatcher = CommandDispatcher.builder()
+                .throttle(new DispatchThrottle(1, Duration.ofMinutes(1)))
+                .build();
+        dispatcher.register(CommandRoute.builder("ping", (context, parameters) -> CommandResult.success()).build());
+
+        List<CommandResult> results = dispatcher.dispatchBatch(new TestActor(ActorKind.CONSOLE), List.of(
+                new CommandInvocation("ping", List.of("x".repeat(200))),
+                CommandInvocation.parse("ping"),
+                CommandInvocation.parse("ping"))).toCompletableFuture().join();
+
+        assertEquals(
+                List.of(CommandStatus.INVALID_USAGE, CommandStatus.SUCCESS, CommandStatus.RATE_LIMITED),
+                results.stream().map(CommandResult::status).toList());
+    }
+
+    @Test
+    void spreadsSynchronousRoutesOverTheParallelExecutor() {
+        CountDownLatch together = new CountDownLatch(2);
+        Thread caller = Thread.currentThread();
+        CommandDispatcher dispatcher = CommandDispatcher.builder().build();
+        dispatcher.register(CommandRoute.builder("sync", (context, parameters) -> {
+            together.countDown();
+            try {
+                return together.await(5, TimeUnit.SECONDS) && Thread.currentThread() != caller
+                        ? CommandResult.success()
+                        : CommandResult.failure(CommandStatus.FAILURE);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return CommandResult.failure(CommandStatus.FAILURE);
+            }
+        }).build());
+        ExecutorService parallel = Executors.newFixedThreadPool(2);
+        try {
+            List<CommandResult> results = dispatcher.dispatchBatch(new TestActor(ActorKind.CONSOLE), List.of(
+                    CommandInvocation.parse("sync"),
+                    CommandInvocation.parse("sync"),
+                    new CommandInvocation("missing", List.of())), parallel).toCompletableFuture().join();
+
+            assertEquals(
+                    List.of(CommandStatus.SUCCESS, CommandStatus.SUCCESS, CommandStatus.NOT_FOUND),
+                    results.stream().map(CommandResult::status).toList());
+        } finally {
+            parallel.shutdownNow();
+        }
+    }
+
+    @Test
+    void resolvesTheWholeBatchAgainstOneSnapshot() {
+        CommandRoute hello = CommandRoute.builder("hello", (context, parameters) -> CommandResult.success()).build();
+        CommandDispatcher installing = CommandDispatcher.builder().build();
+        installing.register(CommandRoute.builder("install", (context, parameters) -> {
+            installing.register(hello);
+            return CommandResult.success();
+        }).build());
+        TestActor actor = new TestActor(ActorKind.CONSOLE);
+
+        List<CommandResult> results = installing.dispatchBatch(actor, List.of(
+                CommandInvocation.parse("install"),
+                CommandInvocation.parse("hello"))).toCompletableFuture().join();
+
+        assertEquals(CommandStatus.SUCCESS, results.get(0).status());
+        assertEquals(CommandStatus.NOT_FOUND, results.get(1).status());
+        assertEquals(CommandStatus.SUCCESS, installing.dispatch(actor, "hello").status());
+    }
+
+    @Test
+    void suggestsCorrectionsFromTheBatchSnapshot() {
+        CommandRoute hello = CommandRoute.builder("hello", (context, parameters) -> CommandResult.success()).build();
+        CommandDispatcher installing = CommandDispatcher.builder().build();
+        installing.register(CommandRoute.builder("install", (context, parameters) -> {
+            installing.register(hello);
+            return CommandResult.success();
+        }).build());
+        TestActor actor = new TestActor(ActorKind.CONSOLE);
+
+        installing.dispatchBatch(actor, List.of(
+                CommandInvocation.parse("install"),
+                CommandInvocation.parse("helo"))).toCompletableFuture().join();
+
+        assertEquals(1, actor.messages().size());
+        assertFalse(actor.messages().getFirst().contains("/hello"), actor.messages().getFirst());
+        installing.dispatch(actor, "helo");
+        assertTrue(actor.messages().getLast().contains("/hello"), actor.messages().getLast());
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.hanielcota.commandframework.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.hanielcota.commandframework.core.metrics.CommandMetrics;
+import io.github.hanielcota.commandframework.core.pipeline.PipelineStage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.Test;
+
+final class CommandDispatcherMetricsTest {
+
+    @Test
+    void bindsInstrumentsOnceAtRegistration() {
+        RecordingMetrics metrics = new RecordingMetrics();
+        CommandDispatcher dispatcher = CommandDispatcher.builder().metrics(metrics).build();
+        dispatcher.register(CommandRoute.builder("kit", (context, parameters) -> CommandResult.success())
+                .path(List.of("give"))
+                .permission("kit.give")
+                .build());
+        int bound = metrics.bound.size();
+        assertEquals(CommandStatus.values().length + 1, bound);
+
+        TestActor actor = new TestActor(ActorKind.PLAYER);
+        dispatcher.dispatch(actor, "kit give");
+        actor.grant("kit.give");
+        dispatcher.dispatch(actor, "kit give");
+        dispatcher.dispatch(actor, "kit give");
+
+        assertEquals(bound, metrics.bound.size());
+        assertEquals(2, metrics.counts.get("command.dispatch{route=kit give, status=success}"));
+        assertEquals(1, metrics.counts.get("command.dispatch{route=kit give, status=no_permission}"));
+        assertEquals(3, metrics.counts.get("command.dispatch.duration{route=kit give}"));
+        assertTrue(metrics.unbound.isEmpty());
+    }
+
+    @Test
+    void recordsUnresolvedDispatchesByLabel() {
+        RecordingMetrics metrics = new RecordingMetrics();
+        CommandDispatcher dispatcher = CommandDispatcher.builder().metrics(metrics).build();
+
+        dispatcher.dispatch(new TestActor(ActorKind.PLAYER), "missing");
+
+        assertEquals(List.of("command.dispatch.duration{route=missing}", "command.dispatch{route=missing, status=not_found}"), metrics.unbound);
+    }
+
+    @Test
+    void recordsAsyncDispatchesWhenTheyComplete() {
+        RecordingMetrics metrics = new RecordingMetrics();
+        CommandDispatcherAsyncTest.QueuedExecutor executor = new CommandDispatcherAsyncTest.QueuedExecutor();
+        CommandDispatcher dispatcher = CommandDispatcher.builder().metrics(metrics).asyncExecutor(executor).build();
+        dispatcher.register(CommandRoute.builder("backup", (context, parameters) -> CommandResult.success()).async(true).build());
+
+        dispatcher.dispatch(new TestActor(ActorKind.CONSOLE), "backup");
+        assertTrue(metrics.counts.isEmpty());
+
+        executor.runAll();
+        assertEquals(1, metrics.counts.get("command.dispatch{route=backup, status=success}"));
+        assertEquals(1, metrics.counts.get("command.dispatch.duration{route=backup}"));
+    }
+
+    @Test
+    void timesStagesOfSampledDispatches() {
+        RecordingMetrics metrics = new RecordingMetrics();
+        CommandDispatcher dispatcher = CommandDispatcher.builder().metrics(metrics).stageTiming(1.0).build();
+        dispatcher.register(CommandRoute.builder("backup", (context, parameters) -> {
+            LockSupport.parkNanos(1_000_000);
+            return CommandResult.success();
+        }).build());
+        assertEquals(PipelineStage.values().length, metrics.bound.stream().filter(key -> key.startsWith("command.dispatch.stage")).count());
+
+        dispatcher.dispatch(new TestActor(ActorKind.CONSOLE), "backup");
+
+        assertEquals(1, metrics.counts.get("command.dispatch.stage{route=backup, stage=executor}"));
+        assertNull(metrics.counts.get("command.dispatch.stage{route=backup, stage=queue}"));
+        assertNull(metrics.counts.get("command.dispatch.stage{route=backup, stage=parse}"));
+    }
+
+    @Test
+    void rejectsStageSampleRatesOutsideZeroToOne() {
+        assertThrows(IllegalArgumentException.class, () -> CommandDispatcher.builder().stageTiming(1.5));
+        assertThrows(IllegalArgumentException.class, () -> CommandDispatcher.builder().stageTiming(Double.NaN));
+    }
+
+    private static final class RecordingMetrics implements CommandMetrics {
+
+        private final List<String> bound = new ArrayList<>();
+        private final List<String> unbound = new ArrayList<>();
+        private final Map<String, Integer> counts = new HashMap<>();
+
+        @Override
+        public void increment(String name, Map<String, String> tags) {
+            unbound.add(key(name, tags));
+        }
+
+        @Override
+        public void record(String name, Map<String, String> tags, Duration duration) {
+            unbound.add(key(name, tags));
+        }
+
+        @Override
+        public Counter counter(String name, Map<String, String> tags) {
+            String key = key(name, tags);
+            bound.add(key);
+            return () -> counts.merge(key, 1, Integer::sum);
+        }
+
+        @Override
+        public Timer timer(String name, Map<String, String> tags) {
+            String key = key(name, tags);
+            bound.add(key);
+            return durationNanos -> counts.merge(key, 1, Integer::sum);
+        }
+
+        private static String key(String name, Map<String, String> tags) {
+            return name + new TreeMap<>(tags);
+        }
+    }
+}
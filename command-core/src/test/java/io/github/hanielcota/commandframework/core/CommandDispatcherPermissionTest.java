@@ -30,6 +30,19 @@ final class CommandDispatcherPermissionTest {
         assertEquals(List.of("executed"), actor.messages());
     }
 
+    @Test
+    void dispatchesRawCommandLines() {
+        CommandDispatcher dispatcher = CommandDispatcher.builder().build();
+        dispatcher.register(route());
+        TestActor actor = new TestActor(ActorKind.PLAYER);
+        actor.grant("kit.give");
+
+        assertEquals(CommandStatus.SUCCESS, dispatcher.dispatch(actor, "  KIT   give ").status());
+        assertEquals(CommandStatus.SUCCESS, dispatcher.dispatch(actor, "kit", " give").status());
+        assertEquals(CommandStatus.NOT_FOUND, dispatcher.dispatch(actor, "   ").status());
+        assertEquals(List.of("give"), dispatcher.suggest(actor, "kit g"));
+    }
+
     private CommandRoute route() {
         return CommandRoute.builder("kit", (context, parameters) -> {
                     context.actor().sendMessage("executed");
@@ -0,0 +1,83 @@
+package io.github.hanielcota.commandframework.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+final class CommandLoggerTest {
+
+    @Test
+    void noopLoggerNeverBuildsMessages() {
+        CommandLogger logger = CommandLogger.noop();
+
+        assertFalse(logger.isTraceEnabled());
+        assertFalse(logger.isDebugEnabled());
+        logger.trace(() -> {
+            throw new AssertionError("trace message built");
+        });
+        logger.debug(() -> {
+            throw new AssertionError("debug message built");
+        });
+    }
+
+    @Test
+    void loggersReceiveEveryLevelUnlessTheyReportItDisabled() {
+        List<String> messages = new ArrayList<>();
+        CommandLogger logger = new CommandLogger() {
+            @Override
+            public void debug(String message) {
+                messages.add(message);
+            }
+
+            @Override
+            public void warn(String message, @Nullable Throwable throwable) {
+            }
+        };
+
+        assertTrue(logger.isTraceEnabled());
+        assertTrue(logger.isDebugEnabled());
+        logger.debug(() -> "route=kit");
+
+        assertEquals(List.of("route=kit"), messages);
+    }
+
+    @Test
+    void formatsParameterizedMessagesWhenEnabled() {
+        List<String> messages = new ArrayList<>();
+        CommandLogger logger = new CommandLogger() {
+            @Override
+            public boolean isTraceEnabled() {
+                return true;
+            }
+
+            @Override
+            public boolean isDebugEnabled() {
+                return true;
+            }
+
+            @Override
+            public void trace(String message) {
+                messages.add(message);
+            }
+
+            @Override
+            public void debug(String message) {
+                messages.add(message);
+            }
+
+            @Override
+            public void warn(String message, @Nullable Throwable throwable) {
+            }
+        };
+
+        logger.trace("route=%s, status=%s", "kit give", CommandStatus.SUCCESS);
+        logger.debug("actor=%s, route=%s, expected=%s", "a", "kit", SenderRequirement.ANY);
+
+        assertEquals(List.of("route=kit give, status=SUCCESS", "actor=a, route=kit, expected=ANY"), messages);
+    }
+}
@@ -27,6 +27,31 @@ final class CommandNodeTest {
         assertEquals(List.of("abc", "abd"), root.childLiteralsStartingWith("ab"));
     }
 
+    @Test
+    void keepsSortedChildIndexInSyncWithMutations() {
+        CommandNode root = new CommandNode("root");
+        root.childOrCreate("give");
+        root.childOrCreate("gamemode");
+        root.childOrCreate("take");
+        root.removeChild("gamemode");
+
+        assertEquals(List.of("give", "take"), root.childLiteralsStartingWith(""));
+        assertEquals(List.of("give"), root.freeze().childLiteralsStartingWith("g"));
+        assertEquals(List.of(), root.childLiteralsStartingWith("x"));
+    }
+
+    @Test
+    void freezesDeepCopyThatRejectsMutation() {
+        CommandNode root = new CommandNode("root");
+        root.childOrCreate("child").childOrCreate("leaf");
+        CommandNode frozen = root.freeze();
+        root.removeChild("child");
+
+        assertTrue(frozen.child("child").flatMap(child -> child.child("leaf")).isPresent());
+        assertThrows(IllegalStateException.class, () -> frozen.removeChild("child"));
+        assertEquals(frozen, frozen.freeze());
+    }
+
     @Test
     void preventsDuplicateRoute() {
         CommandNode node = new CommandNode("node");
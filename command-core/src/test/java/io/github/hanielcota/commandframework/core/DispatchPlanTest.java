@@ -0,0 +1,84 @@
+package io.github.hanielcota.commandframework.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.hanielcota.commandframework.core.config.CommandConfiguration;
+import io.github.hanielcota.commandframework.core.pipeline.DispatchPlan;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+final class DispatchPlanTest {
+
+    @Test
+    void compilesOnlyTheChecksARouteNeeds() {
+        CommandDispatcher dispatcher = CommandDispatcher.builder().build();
+        CommandRoute route = route();
+        dispatcher.register(route);
+
+        DispatchPlan plan = registeredPlan(dispatcher);
+        assertTrue(plan.checksPermission());
+        assertFalse(plan.checksSender());
+        assertFalse(plan.checksCooldown());
+        assertTrue(plan.interceptors().isEmpty());
+
+        dispatcher.unregister(route);
+        assertTrue(dispatcher.plan(plan.route()).isEmpty());
+    }
+
+    @Test
+    void recompilesPlansWhenConfigurationIsReloaded() {
+        CommandDispatcher dispatcher = CommandDispatcher.builder().build();
+        dispatcher.register(route());
+        DispatchPlan before = registeredPlan(dispatcher);
+        TestActor actor = new TestActor(ActorKind.PLAYER);
+        actor.grant("kit.give");
+
+        dispatcher.reloadConfiguration(cooldown(Duration.ofMinutes(1)));
+
+        DispatchPlan after = registeredPlan(dispatcher);
+        assertTrue(after.checksCooldown());
+        assertTrue(dispatcher.plan(before.route()).isEmpty());
+        assertEquals(CommandStatus.SUCCESS, dispatcher.dispatch(actor, "kit give").status());
+        assertEquals(CommandStatus.COOLDOWN, dispatcher.dispatch(actor, "kit give").status());
+    }
+
+    private DispatchPlan registeredPlan(CommandDispatcher dispatcher) {
+        CommandRoute registered = dispatcher.root("kit").orElseThrow().node().child("give").orElseThrow().route().orElseThrow();
+        return dispatcher.plan(registered).orElseThrow();
+    }
+
+    private CommandRoute route() {
+        return CommandRoute.builder("kit", (context, parameters) -> CommandResult.success())
+                .path(List.of("give"))
+                .permission("kit.give")
+                .build();
+    }
+
+    private CommandConfiguration cooldown(Duration duration) {
+        return new CommandConfiguration() {
+            @Override
+            public Optional<String> string(String routeKey, String property) {
+                return Optional.empty();
+            }
+
+            @Override
+            public Optional<Duration> duration(String routeKey, String property) {
+                return "cooldown".equals(property) ? Optional.of(duration) : Optional.empty();
+            }
+
+            @Override
+            public Optional<List<String>> stringList(String routeKey, String property) {
+                return Optional.empty();
+            }
+
+            @Override
+            public Optional<Boolean> bool(String routeKey, String property) {
+                return Optional.empty();
+            }
+        };
+    }
+}
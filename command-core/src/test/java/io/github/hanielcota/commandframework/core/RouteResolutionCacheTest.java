@@ -0,0 +1,120 @@
+package io.github.hanielcota.commandframework.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.hanielcota.commandframework.core.metrics.CommandMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+final class RouteResolutionCacheTest {
+
+    @Test
+    void replaysCachedRouteUntilRegistryChanges() {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        CommandRoute give = route("kit", List.of("give"));
+        registry.register(give);
+        RecordingMetrics metrics = new RecordingMetrics();
+        RouteResolutionCache cache = new RouteResolutionCache(registry, 16, metrics);
+        RouteCursor cursor = new RouteCursor();
+
+        assertTrue(cache.resolve("kit", List.of("give", "Steve"), cursor));
+        assertTrue(cache.resolve("KIT", List.of("Give", "Alex"), cursor));
+        assertSame(give, cursor.routeValue());
+        assertEquals(1, cursor.consumedLiterals());
+
+        registry.update(List.of(give), List.of(route("kit", List.of("take"))));
+        assertFalse(cache.resolve("kit", List.of("give", "Steve"), cursor));
+        assertFalse(cache.resolve("warp", List.of(), cursor));
+
+        assertEquals(List.of("miss", "hit", "stale"), metrics.results());
+    }
+
+    @Test
+    void keysOnlyTheLiteralPrefixARootCanConsume() {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        registry.register(route("msg", List.of()));
+        RouteResolutionCache cache = new RouteResolutionCache(registry, 16, CommandMetrics.noop());
+        RouteCursor cursor = new RouteCursor();
+
+        cache.resolve("msg", List.of("Steve", "hello"), cursor);
+        cache.resolve("msg", List.of("Alex", "hi"), cursor);
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void neverKeysParameterValues() {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        CommandRoute accept = route("tpa", List.of("accept"));
+        CommandRoute request = route("tpa", List.of());
+        registry.register(accept);
+        registry.register(request);
+        RouteResolutionCache cache = new RouteResolutionCache(registry, 16, CommandMetrics.noop());
+        RouteCursor cursor = new RouteCursor();
+
+        assertTrue(cache.resolve("tpa", List.of("Steve"), cursor));
+        assertSame(request, cursor.routeValue());
+        assertTrue(cache.resolve("tpa", List.of("Alex"), cursor));
+        assertEquals(0, cache.size());
+
+        assertTrue(cache.resolve("tpa", List.of("accept"), cursor));
+        assertTrue(cache.resolve("tpa", List.of("ACCEPT"), cursor));
+        assertSame(accept, cursor.routeValue());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void keepsTokensWithSpacesApartFromSplitTokens() {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        registry.register(route("kit", List.of("give")));
+        registry.register(route("kit", List.of("give", "all")));
+        RouteResolutionCache cache = new RouteResolutionCache(registry, 16, CommandMetrics.noop());
+        RouteCursor cursor = new RouteCursor();
+
+        assertTrue(cache.resolve("kit", List.of("give", "x y"), cursor));
+        assertFalse(cache.resolve("kit", List.of("give x", "y"), cursor));
+    }
+
+    @Test
+    void neverCachesFailedResolutions() {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        registry.register(route("kit", List.of("give")));
+        RouteResolutionCache cache = new RouteResolutionCache(registry, 16, CommandMetrics.noop());
+        RouteCursor cursor = new RouteCursor();
+
+        assertFalse(cache.resolve("kit", List.of("junk"), cursor));
+        assertFalse(cache.resolve("kit", List.of("more-junk"), cursor));
+
+        assertEquals(0, cache.size());
+    }
+
+    private CommandRoute route(String root, List<String> path) {
+        return CommandRoute.builder(root, (context, parameters) -> CommandResult.success())
+                .path(path)
+                .build();
+    }
+
+    private static final class RecordingMetrics implements CommandMetrics {
+
+        private final List<String> results = new ArrayList<>();
+
+        List<String> results() {
+            return results;
+        }
+
+        @Override
+        public void increment(String name, Map<String, String> tags) {
+            results.add(tags.get("result"));
+        }
+
+        @Override
+        public void record(String name, Map<String, String> tags, Duration duration) {
+        }
+    }
+}
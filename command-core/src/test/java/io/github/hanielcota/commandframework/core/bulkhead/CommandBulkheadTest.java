@@ -0,0 +1,121 @@
+package io.github.hanielcota.commandframework.core.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.hanielcota.commandframework.core.metrics.CommandMetrics;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.Test;
+
+final class CommandBulkheadTest {
+
+    private final QueuedExecutor executor = new QueuedExecutor();
+    private final List<String> events = new ArrayList<>();
+
+    @Test
+    void runsAtMostMaxConcurrencyAndQueuesTheRest() {
+        CommandBulkhead bulkhead = bulkhead(RejectionPolicy.REJECT);
+
+        assertTrue(bulkhead.execute(task("a"), rejected("a")));
+        assertTrue(bulkhead.execute(task("b"), rejected("b")));
+        assertFalse(bulkhead.execute(task("c"), rejected("c")));
+        assertEquals(1, bulkhead.activeCount());
+        assertEquals(1, bulkhead.queuedCount());
+        assertEquals(1, executor.tasks.size());
+
+        executor.runAll();
+        assertEquals(List.of("ran a", "ran b"), events);
+        assertEquals(0, bulkhead.activeCount());
+        assertEquals(0, bulkhead.queuedCount());
+    }
+
+    @Test
+    void runsOnTheCallerWhenFull() {
+        CommandBulkhead bulkhead = bulkhead(RejectionPolicy.CALLER_RUNS);
+        bulkhead.execute(task("a"), rejected("a"));
+        bulkhead.execute(task("b"), rejected("b"));
+
+        assertTrue(bulkhead.execute(task("c"), rejected("c")));
+        assertEquals(List.of("ran c"), events);
+    }
+
+    @Test
+    void countsCallerRunsApartFromRejections() {
+        Map<String, Integer> counts = new HashMap<>();
+        CommandMetrics metrics = new CommandMetrics() {
+            @Override
+            public void increment(String name, Map<String, String> tags) {
+                counts.merge(name, 1, Integer::sum);
+            }
+
+            @Override
+            public void record(String name, Map<String, String> tags, Duration duration) {
+            }
+        };
+        CommandBulkhead bulkhead = new CommandBulkhead("economy", 1, 1, RejectionPolicy.CALLER_RUNS, executor, metrics);
+        bulkhead.execute(task("a"), rejected("a"));
+        bulkhead.execute(task("b"), rejected("b"));
+
+        bulkhead.execute(task("c"), rejected("c"));
+
+        assertEquals(Map.of("command.bulkhead.caller_runs", 1), counts);
+    }
+
+    @Test
+    void releasesTheSlotWhenTheExecutorFails() {
+        CommandBulkhead bulkhead = new CommandBulkhead("economy", 1, 1, RejectionPolicy.REJECT, command -> {
+            throw new IllegalStateException("executor shut down");
+        }, CommandMetrics.noop());
+
+        assertFalse(bulkhead.execute(task("a"), rejected("a")));
+        assertEquals(0, bulkhead.activeCount());
+    }
+
+    @Test
+    void discardsTheOldestQueuedTaskWhenFull() {
+        CommandBulkhead bulkhead = bulkhead(RejectionPolicy.DISCARD_OLDEST);
+        bulkhead.execute(task("a"), rejected("a"));
+        bulkhead.execute(task("b"), rejected("b"));
+
+        assertTrue(bulkhead.execute(task("c"), rejected("c")));
+        executor.runAll();
+        assertEquals(List.of("rejected b", "ran a", "ran c"), events);
+    }
+
+    private CommandBulkhead bulkhead(RejectionPolicy policy) {
+        return new CommandBulkhead("economy", 1, 1, policy, executor, CommandMetrics.noop());
+    }
+
+    private Runnable task(String name) {
+        return () -> events.add("ran " + name);
+    }
+
+    private Runnable rejected(String name) {
+        return () -> events.add("rejected " + name);
+    }
+
+    private static final class QueuedExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
@@ -2,15 +2,23 @@ package io.github.hanielcota.commandframework.core.dispatch;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.github.hanielcota.commandframework.core.ActorKind;
 import io.github.hanielcota.commandframework.core.CommandContext;
 import io.github.hanielcota.commandframework.core.CommandParameter;
 import io.github.hanielcota.commandframework.core.CommandResult;
 import io.github.hanielcota.commandframework.core.CommandRoute;
+import io.github.hanielcota.commandframework.core.ParameterParseContext;
+import io.github.hanielcota.commandframework.core.ParameterResolver;
+import io.github.hanielcota.commandframework.core.ParseResult;
 import io.github.hanielcota.commandframework.core.TestActor;
+import io.github.hanielcota.commandframework.core.argument.DefaultValueResolver;
+import io.github.hanielcota.commandframework.core.argument.IntegerArgumentResolver;
 import io.github.hanielcota.commandframework.core.argument.SingleArgumentParameterResolver;
 import io.github.hanielcota.commandframework.core.argument.StringArgumentResolver;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -31,6 +39,58 @@ final class CommandParameterParserTest {
         assertEquals("target", failure.expectedValue());
     }
 
+    @Test
+    void adaptsContextResolversWithoutCopyingTheArguments() {
+        List<ParameterParseContext> seen = new ArrayList<>();
+        ParameterResolver<String> legacy = new ParameterResolver<>() {
+            @Override
+            public Class<String> type() {
+                return String.class;
+            }
+
+            @Override
+            public boolean consumesInput() {
+                return true;
+            }
+
+            @Override
+            public ParseResult<String> resolve(ParameterParseContext context) {
+                seen.add(context);
+                return ParseResult.success(context.arguments().get(context.index()), 1);
+            }
+        };
+        CommandRoute route = CommandRoute.builder("msg", (context, parameters) -> CommandResult.success())
+                .parameters(List.of(
+                        new CommandParameter<>("target", String.class, legacy, true),
+                        new CommandParameter<>("message", String.class, legacy, true)))
+                .build();
+        CommandContext context = new CommandContext(new TestActor(ActorKind.PLAYER), route, "msg", List.of("Steve", "hi"));
+
+        ParameterParseOutcome outcome = new CommandParameterParser().parse(context);
+
+        assertTrue(outcome.isSuccess());
+        assertEquals("hi", outcome.parameters().get(1).value());
+        assertEquals(1, seen.get(1).index());
+        assertSame(context.arguments(), seen.get(0).arguments());
+        assertSame(context.arguments(), seen.get(1).arguments());
+    }
+
+    @Test
+    void parsesDefaultsOnTheSharedCursor() {
+        CommandRoute route = CommandRoute.builder("pay", (context, parameters) -> CommandResult.success())
+                .parameters(List.of(
+                        stringParameter("target"),
+                        new CommandParameter<>("amount", Integer.class, new DefaultValueResolver<>(
+                                new SingleArgumentParameterResolver<>(new IntegerArgumentResolver(Integer.class)), "10"), true)))
+                .build();
+        CommandContext context = new CommandContext(new TestActor(ActorKind.PLAYER), route, "pay", List.of("Steve"));
+
+        ParameterParseOutcome outcome = new CommandParameterParser().parse(context);
+
+        assertTrue(outcome.isSuccess());
+        assertEquals(10, outcome.parameters().get(1).value());
+    }
+
     private CommandParameter<String> stringParameter(String name) {
         return new CommandParameter<>(
                 name,
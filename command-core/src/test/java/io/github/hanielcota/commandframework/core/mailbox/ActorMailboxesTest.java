@@ -0,0 +1,112 @@
+package io.github.hanielcota.commandframework.core.mailbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.hanielcota.commandframework.core.metrics.CommandMetrics;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+
+final class ActorMailboxesTest {
+
+    private final QueuedExecutor executor = new QueuedExecutor();
+    private final List<String> events = new ArrayList<>();
+
+    @Test
+    void runsEachActorsTasksInOrderWithOneDrainPerActor() {
+        ActorMailboxes mailboxes = new ActorMailboxes(8, executor, CommandMetrics.noop());
+
+        assertTrue(mailboxes.execute("alice", task("a1"), rejected("a1")));
+        assertTrue(mailboxes.execute("bob", task("b1"), rejected("b1")));
+        assertTrue(mailboxes.execute("alice", task("a2"), rejected("a2")));
+        assertEquals(2, executor.tasks.size());
+        assertEquals(2, mailboxes.activeCount());
+
+        executor.runAll();
+
+        assertEquals(List.of("ran a1", "ran a2", "ran b1"), events);
+    }
+
+    @Test
+    void reclaimsEmptyMailboxes() {
+        ActorMailboxes mailboxes = new ActorMailboxes(8, executor, CommandMetrics.noop());
+        mailboxes.execute("alice", task("a1"), rejected("a1"));
+
+        executor.runAll();
+
+        assertEquals(0, mailboxes.activeCount());
+        assertEquals(0, mailboxes.depth("alice"));
+        assertTrue(mailboxes.execute("alice", task("a2"), rejected("a2")));
+        assertEquals(1, executor.tasks.size());
+    }
+
+    @Test
+    void refusesTasksBeyondTheMailboxDepth() {
+        ActorMailboxes mailboxes = new ActorMailboxes(2, executor, CommandMetrics.noop());
+
+        assertTrue(mailboxes.execute("alice", task("a1"), rejected("a1")));
+        assertTrue(mailboxes.execute("alice", task("a2"), rejected("a2")));
+        assertFalse(mailboxes.execute("alice", task("a3"), rejected("a3")));
+        assertTrue(mailboxes.execute("bob", task("b1"), rejected("b1")));
+        assertEquals(2, mailboxes.depth("alice"));
+    }
+
+    @Test
+    void yieldsTheThreadAfterABatch() {
+        ActorMailboxes mailboxes = new ActorMailboxes(64, executor, CommandMetrics.noop());
+        for (int index = 0; index < ActorMailboxes.BATCH + 4; index++) {
+            mailboxes.execute("alice", task("a" + index), rejected("a" + index));
+        }
+
+        executor.tasks.poll().run();
+
+        assertEquals(ActorMailboxes.BATCH, events.size());
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+        assertEquals(ActorMailboxes.BATCH + 4, events.size());
+    }
+
+    @Test
+    void dropsTheMailboxWhenTheExecutorRefusesIt() {
+        Executor refusing = command -> {
+            throw new RejectedExecutionException("shut down");
+        };
+        ActorMailboxes mailboxes = new ActorMailboxes(8, refusing, CommandMetrics.noop());
+
+        assertTrue(mailboxes.execute("alice", task("a1"), rejected("a1")));
+
+        assertEquals(List.of("rejected a1"), events);
+        assertEquals(0, mailboxes.activeCount());
+    }
+
+    private Runnable task(String name) {
+        return () -> events.add("ran " + name);
+    }
+
+    private Runnable rejected(String name) {
+        return () -> events.add("rejected " + name);
+    }
+
+    private static final class QueuedExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
@@ -33,6 +33,16 @@ final class DispatchThrottleTest {
         assertEquals(ThrottleDecision.ALLOWED, throttle.claim("actor"));
     }
 
+    @Test
+    void claimsSeveralPermitsInOneOperation() {
+        DispatchThrottle throttle = new DispatchThrottle(3, Duration.ofSeconds(1), new MutableClock());
+
+        assertEquals(2, throttle.claim("actor", 2));
+        assertEquals(1, throttle.claim("actor", 4));
+        assertEquals(0, throttle.claim("actor", 1));
+        assertEquals(ThrottleDecision.DENIED, throttle.claim("actor"));
+    }
+
     @Test
     void doesNotRefillGraduallyInsideWindow() {
         MutableClock clock = new MutableClock();
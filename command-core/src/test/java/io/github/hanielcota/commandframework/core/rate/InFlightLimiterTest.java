@@ -0,0 +1,51 @@
+package io.github.hanielcota.commandframework.core.rate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+final class InFlightLimiterTest {
+
+    @Test
+    void capsCommandsPerActor() {
+        InFlightLimiter limiter = new InFlightLimiter(2, 0);
+
+        assertEquals(InFlightDecision.ALLOWED, limiter.tryAcquire("alice", "backup"));
+        assertEquals(InFlightDecision.ALLOWED, limiter.tryAcquire("alice", "sync"));
+        assertEquals(InFlightDecision.ACTOR_LIMITED, limiter.tryAcquire("alice", "backup"));
+        assertEquals(InFlightDecision.ALLOWED, limiter.tryAcquire("bob", "backup"));
+
+        limiter.release("alice", "backup");
+
+        assertEquals(InFlightDecision.ALLOWED, limiter.tryAcquire("alice", "backup"));
+    }
+
+    @Test
+    void capsCommandsPerRouteWithoutHoldingTheActorPermit() {
+        InFlightLimiter limiter = new InFlightLimiter(0, 1);
+
+        assertEquals(InFlightDecision.ALLOWED, limiter.tryAcquire("alice", "backup"));
+        assertEquals(InFlightDecision.ROUTE_LIMITED, limiter.tryAcquire("bob", "backup"));
+
+        assertEquals(0, limiter.inFlight("bob"));
+        assertEquals(1, limiter.routeInFlight("backup"));
+    }
+
+    @Test
+    void forgetsIdleCounters() {
+        InFlightLimiter limiter = new InFlightLimiter(1, 1);
+
+        limiter.tryAcquire("alice", "backup");
+        limiter.release("alice", "backup");
+
+        assertEquals(0, limiter.inFlight("alice"));
+        assertEquals(0, limiter.routeInFlight("backup"));
+    }
+
+    @Test
+    void rejectsNegativeLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new InFlightLimiter(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new InFlightLimiter(0, -1));
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.hanielcota.commandframework.core.route;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class CommandLineTokensTest {
+
+    @Test
+    void splitsOnWhitespaceRunsWithoutEmptyTokens() {
+        assertEquals(List.of("kit", "give", "Steve"), CommandLineTokens.tokenize("\tkit  give\r\nSteve "));
+        assertTrue(CommandLineTokens.tokenize(" \t ").isEmpty());
+        assertTrue(CommandLineTokens.tokenize("").isEmpty());
+    }
+
+    @Test
+    void exposesSlicesUntilATokenIsMaterialized() {
+        CommandLineTokens tokens = CommandLineTokens.tokenize("kit give Steve");
+
+        CharSequence slice = tokens.token(1);
+        assertEquals(4, slice.length());
+        assertEquals("ive", slice.subSequence(1, 4).toString());
+        assertEquals("give", slice.toString());
+
+        String materialized = tokens.get(1);
+        assertSame(materialized, tokens.get(1));
+        assertSame(materialized, tokens.token(1));
+    }
+
+    @Test
+    void sharesTheLineAcrossSubLists() {
+        CommandLineTokens tokens = CommandLineTokens.tokenize("kit give Steve daily");
+
+        CommandLineTokens arguments = tokens.subList(1, 4);
+        assertEquals(List.of("give", "Steve", "daily"), arguments);
+        assertEquals(List.of("daily"), arguments.subList(2, 3));
+        assertSame(arguments.get(0), tokens.get(1));
+        assertInstanceOf(CommandLineTokens.class, arguments.subList(0, 0));
+    }
+}
@@ -1,17 +1,28 @@
 package io.github.hanielcota.commandframework.core.route;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.github.hanielcota.commandframework.core.CommandLogger;
 import io.github.hanielcota.commandframework.core.CommandResult;
 import io.github.hanielcota.commandframework.core.CommandRoot;
 import io.github.hanielcota.commandframework.core.CommandRoute;
 import io.github.hanielcota.commandframework.core.CommandRouteRegistry;
 import io.github.hanielcota.commandframework.core.RouteConfigurationException;
+import io.github.hanielcota.commandframework.core.RouteCursor;
+import io.github.hanielcota.commandframework.core.RouteRegistryChange;
 import io.github.hanielcota.commandframework.core.RouteResolution;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.junit.jupiter.api.Test;
 
 final class CommandRouteRegistryTest {
@@ -27,6 +38,18 @@ final class CommandRouteRegistryTest {
         assertEquals(List.of("Steve"), resolution.match().orElseThrow().arguments());
     }
 
+    @Test
+    void copiesArgumentsTheCallerCanStillModify() {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        registry.register(route("kit", Set.of(), List.of("give")));
+        List<String> arguments = Arrays.asList("give", "Steve");
+
+        RouteResolution resolution = registry.resolve("kit", arguments);
+        arguments.set(1, "Alex");
+
+        assertEquals(List.of("Steve"), resolution.match().orElseThrow().arguments());
+    }
+
     @Test
     void rejectsDuplicateCanonicalRoute() {
         CommandRouteRegistry registry = new CommandRouteRegistry();
@@ -86,6 +109,251 @@ final class CommandRouteRegistryTest {
         assertTrue(registry.root("kit").orElseThrow().aliases().isEmpty());
     }
 
+    @Test
+    void publishesImmutableSnapshotOfRouteTree() {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        registry.register(route("kit", Set.of(), List.of("give")));
+        CommandRoot before = registry.root("kit").orElseThrow();
+
+        registry.register(route("kit", Set.of(), List.of("take")));
+
+        assertTrue(before.node().isFrozen());
+        assertTrue(before.node().child("take").isEmpty());
+        assertTrue(registry.root("kit").orElseThrow().node().child("take").isPresent());
+        assertThrows(IllegalStateException.class, () -> before.node().childOrCreate("reset"));
+    }
+
+    @Test
+    void unregisterPublishesRemovalToReaders() {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        CommandRoute give = route("kit", Set.of("kits"), List.of("give"));
+        registry.register(give);
+
+        registry.unregister(give);
+
+        assertFalse(registry.resolve("kits", List.of("give")).isFound());
+        assertTrue(registry.roots().isEmpty());
+    }
+
+    @Test
+    void resolvesIntoReusableCursor() {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        CommandRoute give = route("kit", Set.of(), List.of("give"));
+        registry.register(give);
+        RouteCursor cursor = new RouteCursor();
+        List<String> arguments = List.of("give", "Steve");
+
+        assertTrue(registry.resolve("kit", arguments, cursor));
+        assertSame(give, cursor.routeValue());
+        assertEquals(1, cursor.consumedLiterals());
+        assertEquals(List.of("Steve"), cursor.remaining(arguments));
+
+        assertFalse(registry.resolve("missing", arguments, cursor));
+        assertFalse(cursor.isMatched());
+    }
+
+    @Test
+    void matchArgumentsAreViewOfCallerTokens() {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        registry.register(route("kit", Set.of(), List.of("give")));
+
+        List<String> arguments = registry.resolve("kit", List.of("give", "Steve", "daily"))
+                .match().orElseThrow().arguments();
+
+        assertEquals(List.of("Steve", "daily"), arguments);
+        assertEquals(List.of("daily"), arguments.subList(1, 2));
+        assertThrows(UnsupportedOperationException.class, () -> arguments.set(0, "Alex"));
+    }
+
+    @Test
+    void suggestsRootLabelsAndAliasesByPrefixWithLimit() {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        registry.register(route("kit", Set.of("kits"), List.of()));
+        registry.register(route("kick", Set.of(), List.of()));
+        registry.register(route("home", Set.of(), List.of()));
+
+        assertEquals(List.of("kick", "kit", "kits"), registry.rootSuggestions("Ki"));
+        assertEquals(List.of("kick", "kit"), registry.rootSuggestions("ki", 2));
+        assertEquals(List.of(), registry.rootSuggestions("z"));
+    }
+
+    @Test
+    void appliesBatchAsSingleChange() {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        CommandRoute give = route("kit", Set.of("kits"), List.of("give"));
+        CommandRoute take = route("kit", Set.of("loadout"), List.of("take"));
+        registry.registerAll(List.of(give, take, route("home", Set.of(), List.of())));
+
+        registry.update(List.of(take), List.of(route("spawn", Set.of("loadout"), List.of())));
+
+        assertEquals(Set.of("kits"), registry.root("kit").orElseThrow().aliases());
+        assertEquals("spawn", registry.root("loadout").orElseThrow().label());
+        assertFalse(registry.resolve("kit", List.of("take")).isFound());
+
+        registry.unregisterAll(List.of(give, take));
+
+        assertTrue(registry.root("kit").isEmpty());
+        assertTrue(registry.root("kits").isEmpty());
+        assertEquals(List.of("home", "loadout", "spawn"), registry.rootSuggestions(""));
+    }
+
+    @Test
+    void rollsBackRejectedBatch() {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        CommandRoute give = route("kit", Set.of("kits"), List.of("give"));
+        registry.register(give);
+
+        assertThrows(RouteConfigurationException.class, () -> registry.update(
+                List.of(give),
+                List.of(route("home", Set.of("homes"), List.of()), route("kits", Set.of(), List.of()),
+                        route("home", Set.of(), List.of()))
+        ));
+
+        assertEquals(List.of("kit", "kits"), registry.rootSuggestions(""));
+        assertTrue(registry.resolve("kits", List.of("give")).isFound());
+        assertEquals(Set.of("kits"), registry.root("kit").orElseThrow().aliases());
+    }
+
+    @Test
+    void keepsAliasUntilLastDeclaringRouteIsRemoved() {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        CommandRoute give = route("kit", Set.of("kits"), List.of("give"));
+        CommandRoute take = route("kit", Set.of("Kits"), List.of("take"));
+        registry.registerAll(List.of(give, take));
+
+        registry.unregister(give);
+        assertTrue(registry.resolve("kits", List.of("take")).isFound());
+
+        registry.unregister(take);
+        assertTrue(registry.root("kits").isEmpty());
+        assertTrue(registry.root("kit").isEmpty());
+    }
+
+    @Test
+    void republishesOnlyChangedRoots() {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        CommandRoute give = route("kit", Set.of(), List.of("give"));
+        registry.registerAll(List.of(give, route("kit", Set.of(), List.of("take")), route("home", Set.of(), List.of())));
+        CommandRoot home = registry.root("home").orElseThrow();
+        CommandRoot kit = registry.root("kit").orElseThrow();
+
+        registry.unregister(give);
+
+        assertSame(home, registry.root("home").orElseThrow());
+        assertFalse(kit == registry.root("kit").orElseThrow());
+        assertFalse(registry.resolve("kit", List.of("give")).isFound());
+    }
+
+    @Test
+    void correctsMistypedRootsAndSubcommands() {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        registry.registerAll(List.of(
+                route("kit", Set.of("kits"), List.of("give")),
+                route("kit", Set.of(), List.of("admin", "reset")),
+                route("spawn", Set.of(), List.of())
+        ));
+
+        assertEquals(List.of("spawn"), registry.corrections("spwan", List.of()));
+        assertEquals(List.of("kit give"), registry.corrections("KITS", List.of("giv")));
+        assertEquals(List.of("kit admin reset"), registry.corrections("kit", List.of("Admin", "rest")));
+        assertEquals(List.of(), registry.corrections("teleport", List.of()));
+    }
+
+    @Test
+    void logsFailingListenersAndNotifiesTheRest() {
+        List<Throwable> failures = new ArrayList<>();
+        CommandRouteRegistry registry = new CommandRouteRegistry((message, throwable) -> failures.add(throwable));
+        List<RouteRegistryChange> changes = new ArrayList<>();
+        registry.addListener(change -> {
+            throw new IllegalStateException("platform refused the root");
+        });
+        registry.addListener(changes::add);
+
+        registry.register(route("kit", Set.of(), List.of("give")));
+
+        assertEquals(1, changes.size());
+        assertEquals(1, failures.size());
+        assertEquals("platform refused the root", failures.getFirst().getMessage());
+        assertTrue(registry.resolve("kit", List.of("give")).isFound());
+    }
+
+    @Test
+    void notifiesListenersOutsideTheRegistryLock() throws InterruptedException {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        List<Long> generations = new CopyOnWriteArrayList<>();
+        registry.addListener(change -> {
+            generations.add(change.generation());
+            if (change.generation() == 1) {
+                Thread other = new Thread(() -> registry.register(route("home", Set.of(), List.of())));
+                other.start();
+                assertTimeoutPreemptively(Duration.ofSeconds(5), () -> other.join());
+            }
+        });
+
+        registry.register(route("kit", Set.of(), List.of("give")));
+
+        assertEquals(List.of(1L, 2L), generations);
+        assertTrue(registry.resolve("home", List.of()).isFound());
+    }
+
+    @Test
+    void deliversChangesMadeByListenersInGenerationOrder() {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        List<Long> first = new ArrayList<>();
+        List<Long> second = new ArrayList<>();
+        registry.addListener(change -> {
+            first.add(change.generation());
+            if (change.generation() == 1) {
+                registry.register(route("home", Set.of(), List.of()));
+            }
+        });
+        registry.addListener(change -> second.add(change.generation()));
+
+        registry.register(route("kit", Set.of(), List.of("give")));
+
+        assertEquals(List.of(1L, 2L), first);
+        assertEquals(List.of(1L, 2L), second);
+    }
+
+    @Test
+    void publishesGenerationAndChangeEvents() {
+        CommandRouteRegistry registry = new CommandRouteRegistry();
+        List<RouteRegistryChange> changes = new ArrayList<>();
+        registry.addListener(changes::add);
+        CommandRoute give = route("kit", Set.of("kits"), List.of("give"));
+        CommandRoute take = route("kit", Set.of("loadout"), List.of("take"));
+
+        registry.registerAll(List.of(give, route("home", Set.of(), List.of())));
+        registry.register(take);
+        registry.unregister(give);
+        registry.unregister(route("warp", Set.of(), List.of()));
+
+        assertEquals(3, registry.generation());
+        assertEquals(3, changes.size());
+        RouteRegistryChange first = changes.get(0);
+        assertEquals(1, first.generation());
+        assertEquals(Set.of("kit", "home"), labels(first.addedRoots()));
+        assertEquals(Set.of("kits"), first.addedAliases());
+        RouteRegistryChange second = changes.get(1);
+        assertEquals(List.of(take), second.addedRoutes());
+        assertEquals(Set.of("kit"), labels(second.updatedRoots()));
+        assertEquals(Set.of("loadout"), second.addedAliases());
+        RouteRegistryChange third = changes.get(2);
+        assertEquals(List.of(give), third.removedRoutes());
+        assertEquals(Set.of("kits"), third.removedAliases());
+        assertTrue(third.removedRoots().isEmpty());
+
+        registry.unregister(take);
+        assertEquals(Set.of("kit"), labels(changes.get(3).removedRoots()));
+        assertEquals(Set.of("loadout"), changes.get(3).removedAliases());
+    }
+
+    private static Set<String> labels(List<CommandRoot> roots) {
+        Set<String> labels = new HashSet<>();
+        roots.forEach(root -> labels.add(root.label()));
+        return labels;
+    }
+
     private CommandRoute route(String root, Set<String> aliases, List<String> path) {
         return CommandRoute.builder(root, (context, parameters) -> CommandResult.success())
                 .aliases(aliases)
@@ -0,0 +1,41 @@
+package io.github.hanielcota.commandframework.core.route;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class LiteralBkTreeTest {
+
+    @Test
+    void findsClosestLiteralsFirst() {
+        LiteralBkTree tree = LiteralBkTree.of(List.of("kit", "kick", "home", "homes", "spawn", "kit"));
+
+        assertEquals(5, tree.size());
+        assertEquals(List.of("kit", "kick"), tree.nearest("kitt", 2, 3, 64));
+        assertEquals(List.of("home", "homes"), tree.nearest("hom", 2, 3, 64));
+        assertEquals(List.of(), tree.nearest("warp", 1, 3, 64));
+    }
+
+    @Test
+    void honoursVisitBudget() {
+        List<String> literals = new ArrayList<>();
+        for (int index = 0; index < 10_000; index++) {
+            literals.add("cmd" + index);
+        }
+        LiteralBkTree tree = LiteralBkTree.of(literals);
+
+        assertTrue(tree.nearest("cmd42", 2, 100, 10).size() <= 10);
+        assertEquals(List.of("cmd42"), tree.nearest("cmd42", 0, 1, 10_000));
+    }
+
+    @Test
+    void computesLevenshteinDistance() {
+        assertEquals(0, LiteralBkTree.distance("kit", "kit"));
+        assertEquals(1, LiteralBkTree.distance("kit", "kits"));
+        assertEquals(3, LiteralBkTree.distance("kitten", "sitting"));
+        assertEquals(4, LiteralBkTree.distance("", "home"));
+    }
+}
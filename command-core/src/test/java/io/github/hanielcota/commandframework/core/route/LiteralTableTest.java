@@ -0,0 +1,52 @@
+package io.github.hanielcota.commandframework.core.route;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+final class LiteralTableTest {
+
+    @Test
+    void findsRawTokensIgnoringCaseAndSurroundingWhitespace() {
+        LiteralTable<String> table = LiteralTable.of(Map.of("give", "g", "take", "t"));
+
+        assertEquals("g", table.get("GiVe"));
+        assertEquals("t", table.get(" take "));
+        assertEquals("g", table.get(new StringBuilder("GIVE")));
+        assertNull(table.get("gift"));
+    }
+
+    @Test
+    void fallsBackToFullNormalizationForContextualCharacters() {
+        CommandLiteralNormalizer normalizer = new CommandLiteralNormalizer();
+        LiteralTable<String> table = LiteralTable.of(Map.of(normalizer.normalize("İzin"), "permit"));
+
+        assertEquals("permit", table.get("İZIN"));
+    }
+
+    @Test
+    void findsRawTokensInHashedWideTables() {
+        Map<String, Integer> entries = new HashMap<>();
+        for (int index = 0; index < 100; index++) {
+            entries.put("sub" + index, index);
+        }
+        LiteralTable<Integer> table = LiteralTable.of(entries);
+
+        assertEquals(100, table.size());
+        assertEquals(42, table.get(" SUB42"));
+        assertEquals(99, table.get("sub99"));
+        assertNull(table.get("sub100"));
+    }
+
+    @Test
+    void emptyTableFindsNothing() {
+        LiteralTable<String> table = LiteralTable.of(Map.of());
+
+        assertNull(table.get("give"));
+        assertEquals(List.of(), table.keys());
+    }
+}
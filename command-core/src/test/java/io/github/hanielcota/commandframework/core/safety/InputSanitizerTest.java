@@ -2,8 +2,10 @@ package io.github.hanielcota.commandframework.core.safety;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.github.hanielcota.commandframework.core.route.CommandLineTokens;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -47,6 +49,16 @@ final class InputSanitizerTest {
         assertEquals("hello", result.arguments().get(0));
     }
 
+    @Test
+    void passesCleanTokenizedInputThroughWithoutCopying() {
+        InputSanitizer sanitizer = new InputSanitizer(5, 5);
+        CommandLineTokens tokens = CommandLineTokens.tokenize("give Steve");
+        assertSame(tokens, sanitizer.sanitize(tokens).arguments());
+
+        assertEquals(List.of("give", "Steve"), sanitizer.sanitize(CommandLineTokens.tokenize("gi\u0000ve Steve")).arguments());
+        assertFalse(sanitizer.sanitize(CommandLineTokens.tokenize("give Steven")).isValid());
+    }
+
     @Test
     void acceptsEmptyArguments() {
         InputSanitizer sanitizer = new InputSanitizer(5, 32);
@@ -0,0 +1,66 @@
+package io.github.hanielcota.commandframework.core.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+final class CommandTaskScopeTest {
+
+    @Test
+    void bindsTheScopeWhileRunning() throws ExecutionException, InterruptedException {
+        try (CommandTaskScope scope = new CommandTaskScope()) {
+            assertTrue(CommandTaskScope.current().isEmpty());
+
+            Future<CommandTaskScope> forked = scope.run(() -> scope.fork(() -> CommandTaskScope.current().orElseThrow()));
+
+            assertSame(scope, forked.get());
+            assertTrue(CommandTaskScope.current().isEmpty());
+        }
+    }
+
+    @Test
+    void cancelInterruptsUnfinishedForks() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CommandTaskScope scope = new CommandTaskScope();
+        CountDownLatch started = new CountDownLatch(1);
+        Future<Object> fork = scope.fork(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException exception) {
+                interrupted.countDown();
+            }
+            return null;
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        scope.cancel();
+
+        assertTrue(scope.isCancelled());
+        assertTrue(fork.isCancelled());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertThrows(IllegalStateException.class, () -> scope.fork(() -> null));
+    }
+
+    @Test
+    void closeCancelsForksThatOutliveTheCommand() {
+        CommandTaskScope scope = new CommandTaskScope();
+        Future<Object> fork = scope.fork(() -> {
+            Thread.sleep(10_000);
+            return null;
+        });
+
+        scope.close();
+
+        assertTrue(fork.isCancelled());
+        assertEquals(0, scope.pendingForks());
+        assertThrows(IllegalStateException.class, () -> scope.fork(() -> null));
+    }
+}
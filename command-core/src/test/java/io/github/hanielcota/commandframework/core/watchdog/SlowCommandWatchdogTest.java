@@ -0,0 +1,155 @@
+package io.github.hanielcota.commandframework.core.watchdog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.hanielcota.commandframework.core.ActorKind;
+import io.github.hanielcota.commandframework.core.CommandDispatcher;
+import io.github.hanielcota.commandframework.core.CommandLogger;
+import io.github.hanielcota.commandframework.core.CommandResult;
+import io.github.hanielcota.commandframework.core.CommandRoute;
+import io.github.hanielcota.commandframework.core.CommandStatus;
+import io.github.hanielcota.commandframework.core.TestActor;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+final class SlowCommandWatchdogTest {
+
+    private final List<String> warnings = new CopyOnWriteArrayList<>();
+    private final CommandLogger logger = (message, throwable) -> warnings.add(message);
+    private final ScheduledThreadPoolExecutor monitor = new ScheduledThreadPoolExecutor(1);
+
+    @Test
+    void reportsSlowCommandsWithTheirHotFrames() throws InterruptedException {
+        SlowCommandWatchdog watchdog = new SlowCommandWatchdog(Duration.ofMillis(20), 3, Duration.ofMillis(5), monitor, logger);
+
+        try (SlowCommandWatchdog.Watch watch = watchdog.watch("kit give", "steve")) {
+            slowWork();
+        }
+        drain();
+
+        assertEquals(1, warnings.size());
+        String warning = warnings.getFirst();
+        assertTrue(warning.startsWith("Slow command: route=kit give, actor=steve, elapsed>="), warning);
+        assertTrue(warning.contains("samples=3"), warning);
+        assertTrue(warning.contains("SlowCommandWatchdogTest.slowWork"), warning);
+        assertTrue(watchdog.reported("kit give"));
+    }
+
+    @Test
+    void reportsEachRouteOnce() throws InterruptedException {
+        SlowCommandWatchdog watchdog = new SlowCommandWatchdog(Duration.ofMillis(20), 1, Duration.ZERO, monitor, logger);
+
+        for (int run = 0; run < 2; run++) {
+            try (SlowCommandWatchdog.Watch watch = watchdog.watch("backup", "console")) {
+                slowWork();
+            }
+        }
+        drain();
+
+        assertEquals(1, warnings.size());
+    }
+
+    @Test
+    void cleansControlCharactersFromTheRouteAndActor() throws InterruptedException {
+        SlowCommandWatchdog watchdog = new SlowCommandWatchdog(Duration.ofMillis(20), 1, Duration.ZERO, monitor, logger);
+
+        try (SlowCommandWatchdog.Watch watch = watchdog.watch("kit\ngive", "ste\u001bve")) {
+            slowWork();
+        }
+        drain();
+
+        assertEquals(1, warnings.size());
+        assertTrue(warnings.getFirst().startsWith("Slow command: route=kit?give, actor=ste?ve, elapsed>="), warnings.getFirst());
+    }
+
+    @Test
+    void ignoresCommandsWithinTheirBudget() throws InterruptedException {
+        monitor.setRemoveOnCancelPolicy(true);
+        SlowCommandWatchdog watchdog = new SlowCommandWatchdog(Duration.ofSeconds(10), 3, Duration.ofMillis(5), monitor, logger);
+
+        watchdog.watch("kit", "steve").close();
+
+        assertTrue(monitor.getQueue().isEmpty());
+        drain();
+        assertTrue(warnings.isEmpty());
+        assertFalse(watchdog.reported("kit"));
+    }
+
+    @Test
+    void dispatcherWatchesSynchronousCommands() throws InterruptedException {
+        CommandDispatcher dispatcher = CommandDispatcher.builder()
+                .logger(new CommandLogger() {
+                    @Override
+                    public void warn(String message, @Nullable Throwable throwable) {
+                        warnings.add(message);
+                    }
+                })
+                .slowCommandWatchdog(Duration.ofMillis(20), 2, Duration.ofMillis(5))
+                .build();
+        dispatcher.register(CommandRoute.builder("backup", (context, parameters) -> {
+            slowWork();
+            return CommandResult.success();
+        }).build());
+
+        dispatcher.dispatch(new TestActor(ActorKind.CONSOLE, "console"), "backup");
+        // The dispatcher's monitor may still be writing the report after dispatch returns.
+        awaitWarning();
+
+        assertEquals(1, warnings.size());
+        assertTrue(warnings.getFirst().startsWith("Slow command: route=backup, actor=console"), warnings.getFirst());
+    }
+
+    @Test
+    void closingTheDispatcherStopsItsMonitor() throws InterruptedException {
+        CommandDispatcher dispatcher = CommandDispatcher.builder()
+                .logger((message, throwable) -> warnings.add(message))
+                .slowCommandWatchdog(Duration.ofMillis(20), 1, Duration.ZERO)
+                .build();
+        dispatcher.register(CommandRoute.builder("backup", (context, parameters) -> {
+            slowWork();
+            return CommandResult.success();
+        }).build());
+
+        dispatcher.close();
+
+        assertEquals(CommandStatus.SUCCESS, dispatcher.dispatch(new TestActor(ActorKind.CONSOLE, "console"), "backup").status());
+        Thread.sleep(50);
+        assertTrue(warnings.isEmpty());
+    }
+
+    @Test
+    void rejectsInvalidBudgets() {
+        CommandDispatcher.Builder builder = CommandDispatcher.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.slowCommandWatchdog(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> builder.slowCommandWatchdog(Duration.ofMillis(50), 0, Duration.ZERO));
+    }
+
+    private void drain() throws InterruptedException {
+        monitor.shutdown();
+        assertTrue(monitor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    private void awaitWarning() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (warnings.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void slowWork() {
+        try {
+            Thread.sleep(150);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
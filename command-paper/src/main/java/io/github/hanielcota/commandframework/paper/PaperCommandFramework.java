@@ -139,7 +139,10 @@ public final class PaperCommandFramework extends PlatformCommandAdapter {
             AnnotatedCommandScanner resolvedScanner = scanner == null
                     ? new AnnotatedCommandScanner(resolvers)
                     : scanner;
-            return new PaperCommandFramework(plugin, resolvedDispatcher, resolvedScanner, registrar);
+            PaperCommandFramework framework =
+                    new PaperCommandFramework(plugin, resolvedDispatcher, resolvedScanner, registrar);
+            framework.start();
+            return framework;
         }
     }
 }
@@ -141,7 +141,10 @@ public final class VelocityCommandFramework<P> extends PlatformCommandAdapter {
             CommandDispatcher resolvedDispatcher = dispatcher == null ? dispatcherBuilder.build() : dispatcher;
             AnnotatedCommandScanner resolvedScanner =
                     scanner == null ? new AnnotatedCommandScanner(resolvers) : scanner;
-            return new VelocityCommandFramework<>(server, plugin, resolvedDispatcher, resolvedScanner, registrar);
+            VelocityCommandFramework<P> framework =
+                    new VelocityCommandFramework<>(server, plugin, resolvedDispatcher, resolvedScanner, registrar);
+            framework.start();
+            return framework;
         }
     }
 }
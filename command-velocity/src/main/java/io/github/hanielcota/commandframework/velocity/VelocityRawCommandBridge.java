@@ -25,7 +25,7 @@ final class VelocityRawCommandBridge implements RawCommand {
         dispatcher.dispatch(
                 actorFor(invocation.source()),
                 invocation.alias(),
-                tokenize(invocation.arguments()));
+                invocation.arguments());
     }
 
     @Override
@@ -33,15 +33,7 @@ final class VelocityRawCommandBridge implements RawCommand {
         return dispatcher.suggest(
                 actorFor(invocation.source()),
                 invocation.alias(),
-                tokenize(invocation.arguments()));
-    }
-
-    static List<String> tokenize(String arguments) {
-        String normalized = Objects.requireNonNull(arguments, "arguments").trim();
-        if (normalized.isBlank()) {
-            return List.of();
-        }
-        return List.of(normalized.split("\\s+"));
+                invocation.arguments());
     }
 
     private VelocityCommandActor actorFor(CommandSource source) {
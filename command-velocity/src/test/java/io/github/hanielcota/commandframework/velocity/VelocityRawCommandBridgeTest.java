@@ -2,18 +2,74 @@ package io.github.hanielcota.commandframework.velocity;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import com.velocitypowered.api.command.CommandSource;
+import com.velocitypowered.api.command.RawCommand;
+import com.velocitypowered.api.permission.Tristate;
+import io.github.hanielcota.commandframework.core.CommandDispatcher;
+import io.github.hanielcota.commandframework.core.CommandParameter;
+import io.github.hanielcota.commandframework.core.CommandResult;
+import io.github.hanielcota.commandframework.core.CommandRoute;
+import io.github.hanielcota.commandframework.core.argument.SingleArgumentParameterResolver;
+import io.github.hanielcota.commandframework.core.argument.StringArgumentResolver;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
 final class VelocityRawCommandBridgeTest {
 
+    private final List<String> executed = new ArrayList<>();
+    private final CommandDispatcher dispatcher = CommandDispatcher.builder().build();
+    private final VelocityRawCommandBridge bridge = new VelocityRawCommandBridge(dispatcher);
+    private final CommandSource source = new AllowingSource();
+
+    @Test
+    void dispatchesRawArgumentsUnderTheTypedAlias() {
+        dispatcher.register(giveRoute());
+
+        bridge.execute(new TestInvocation(source, "kit", "  give   Steve  "));
+
+        assertEquals(List.of("give Steve"), executed);
+    }
+
     @Test
-    void tokenizesBlankRawArgumentsAsEmptyList() {
-        assertEquals(List.of(), VelocityRawCommandBridge.tokenize("   "));
+    void dispatchesBlankRawArgumentsToTheRootRoute() {
+        dispatcher.register(CommandRoute.builder("kit", (context, parameters) -> {
+            executed.add("root");
+            return CommandResult.success();
+        }).build());
+
+        bridge.execute(new TestInvocation(source, "kit", "   "));
+
+        assertEquals(List.of("root"), executed);
     }
 
     @Test
-    void trimsAndCollapsesWhitespaceWhenTokenizingRawArguments() {
-        assertEquals(List.of("give", "Steve", "daily"), VelocityRawCommandBridge.tokenize("  give   Steve daily  "));
+    void suggestsFromTheRawArguments() {
+        dispatcher.register(giveRoute());
+
+        assertEquals(List.of("give"), bridge.suggest(new TestInvocation(source, "kit", "g")));
+    }
+
+    private CommandRoute giveRoute() {
+        CommandParameter<String> target = new CommandParameter<>(
+                "target", String.class, new SingleArgumentParameterResolver<>(new StringArgumentResolver()), true);
+        return CommandRoute.builder("kit", (context, parameters) -> {
+                    executed.add("give " + parameters.getFirst().value());
+                    return CommandResult.success();
+                })
+                .path(List.of("give"))
+                .parameters(List.of(target))
+                .build();
+    }
+
+    private record TestInvocation(CommandSource source, String alias, String arguments) implements RawCommand.Invocation {
+    }
+
+    private static final class AllowingSource implements CommandSource {
+
+        @Override
+        public Tristate getPermissionValue(String permission) {
+            return Tristate.TRUE;
+        }
     }
 }